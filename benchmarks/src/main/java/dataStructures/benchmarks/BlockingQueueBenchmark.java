@@ -0,0 +1,153 @@
+package dataStructures.benchmarks;
+
+import dataStructures.queues.BlockingQueueUsingArray;
+import dataStructures.queues.WaitStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Producers and consumers handing ints through a bounded blocking queue: BlockingQueueUsingArray
+// with each wait strategy against java.util.concurrent.ArrayBlockingQueue<Integer>.
+// Every call blocks for at most 1 ms (so a side left alone at the end of an iteration cannot
+// hang); the aux counters report how many calls moved an element and how many timed out.
+// The default is one producer and one consumer; use -tg to change the group sizes.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockingQueueBenchmark {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // Each queue is its own @State, so the waitStrategy parameter only multiplies the runs of
+    // the group that uses it
+    @State(Scope.Group)
+    public static class BlockingQueueState {
+        @Param({"1024"})
+        public int capacity;
+
+        @Param({"CONDITION", "PARK", "YIELD", "SPIN"})
+        public String waitStrategy;
+
+        private BlockingQueueUsingArray queue;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            WaitStrategy strategy;
+            switch (waitStrategy) {
+                case "SPIN":
+                    strategy = WaitStrategy.SPIN;
+                    break;
+                case "YIELD":
+                    strategy = WaitStrategy.YIELD;
+                    break;
+                case "PARK":
+                    strategy = WaitStrategy.PARK;
+                    break;
+                default:
+                    strategy = WaitStrategy.CONDITION;
+                    break;
+            }
+            queue = new BlockingQueueUsingArray(capacity, strategy);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class ArrayBlockingQueueState {
+        @Param({"1024"})
+        public int capacity;
+
+        private ArrayBlockingQueue<Integer> queue;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+        public long offered;
+        public long offerTimedOut;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            offered = 0;
+            offerTimedOut = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+        public long polled;
+        public long pollTimedOut;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            polled = 0;
+            pollTimedOut = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("blockingQueue")
+    @GroupThreads(1)
+    public void blockingOffer(BlockingQueueState state, ProducerCounters counters) throws InterruptedException {
+        if (state.queue.offer(1, TIMEOUT_NANOS, TimeUnit.NANOSECONDS)) {
+            counters.offered++;
+        } else {
+            counters.offerTimedOut++;
+        }
+    }
+
+    @Benchmark
+    @Group("blockingQueue")
+    @GroupThreads(1)
+    public void blockingPoll(BlockingQueueState state, ConsumerCounters counters) throws InterruptedException {
+        if (state.queue.poll(TIMEOUT_NANOS, TimeUnit.NANOSECONDS, -1) != -1) {
+            counters.polled++;
+        } else {
+            counters.pollTimedOut++;
+        }
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public void arrayBlockingOffer(ArrayBlockingQueueState state, ProducerCounters counters) throws InterruptedException {
+        if (state.queue.offer(1, TIMEOUT_NANOS, TimeUnit.NANOSECONDS)) {
+            counters.offered++;
+        } else {
+            counters.offerTimedOut++;
+        }
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public void arrayBlockingPoll(ArrayBlockingQueueState state, ConsumerCounters counters) throws InterruptedException {
+        if (state.queue.poll(TIMEOUT_NANOS, TimeUnit.NANOSECONDS) != null) {
+            counters.polled++;
+        } else {
+            counters.pollTimedOut++;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.CompactCircularLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompactCircularLinkedListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private CompactCircularLinkedList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Values 0..size-1 appended in order, so the ring reads 0 -> ... -> size-1 -> (head)
+        list = new CompactCircularLinkedList();
+        for (int i = 0; i < size; i++) {
+            list.insertAtTail(i);
+        }
+    }
+
+    @Benchmark
+    public int insertDeleteHead() {
+        list.insertAtHead(-1);
+        list.deleteAtHead();
+        return list.getSize();
+    }
+
+    @Benchmark
+    public int rotate() {
+        // Rotation by unlinking the head and appending it again through the free-list
+        list.deleteAtHead();
+        list.insertAtTail(-1);
+        return list.getSize();
+    }
+
+    @Benchmark
+    public int advanceCursor() {
+        // Rotation by moving the cursor: no node is unlinked or allocated
+        list.advance(1);
+        return list.current();
+    }
+
+    @Benchmark
+    public int removeAndReinsertCurrent() {
+        int data = list.removeCurrent();
+        list.insertBeforeCurrent(data);
+        return data;
+    }
+
+    @Benchmark
+    public int deleteByValueAndReinsert() {
+        list.deleteByValue(size - 1);
+        list.insertAtTail(size - 1);
+        return list.getSize();
+    }
+
+    @Benchmark
+    public boolean searchMiddle() {
+        return list.search(size / 2);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return list.search(Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public CompactCircularLinkedList buildAndDrain() {
+        CompactCircularLinkedList fresh = new CompactCircularLinkedList();
+        for (int i = 0; i < size; i++) {
+            fresh.insertAtTail(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.deleteAtHead();
+        }
+        return fresh;
+    }
+}
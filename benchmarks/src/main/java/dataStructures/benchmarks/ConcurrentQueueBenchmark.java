@@ -0,0 +1,89 @@
+package dataStructures.benchmarks;
+
+import dataStructures.queues.ConcurrentQueueUsingLinkedList;
+import dataStructures.queues.QueueUsingLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// Every thread does an enqueue followed by a dequeue on one shared queue, so all threads
+// contend on both ends. Run main() to sweep 1..64 threads, or pass -t to the JMH jar.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentQueueBenchmark {
+
+    private static final int PREFILL = 1024;
+
+    private ConcurrentQueueUsingLinkedList lockFree;
+    private QueueUsingLinkedList locked;
+    private ConcurrentLinkedQueue<Integer> jdk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lockFree = new ConcurrentQueueUsingLinkedList();
+        locked = new QueueUsingLinkedList();
+        jdk = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < PREFILL; i++) {
+            lockFree.enqueue(i);
+            locked.enqueue(i);
+            jdk.offer(i);
+        }
+    }
+
+    @Benchmark
+    public int lockFreeEnqueueDequeue() {
+        lockFree.enqueue(1);
+        return lockFree.poll(-1);
+    }
+
+    @Benchmark
+    public int synchronizedEnqueueDequeue() {
+        synchronized (locked) {
+            locked.enqueue(1);
+        }
+        synchronized (locked) {
+            return locked.isEmpty() ? -1 : locked.dequeue();
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedQueueOfferPoll() {
+        jdk.offer(1);
+        return jdk.poll();
+    }
+
+    @Benchmark
+    public int lockFreeSize() {
+        return lockFree.size();
+    }
+
+    // Runs the sweep over 1, 2, 4, ..., 64 threads
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentQueueBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dataStructures.benchmarks;
+
+import dataStructures.stacks.ConcurrentStackUsingLinkedList;
+import dataStructures.stacks.StackUsingLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Free-list pattern: every thread pops an element and pushes it back on one shared stack.
+// Run main() to sweep 1..64 threads, or pass -t to the JMH jar.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+
+    private static final int PREFILL = 1024;
+
+    private ConcurrentStackUsingLinkedList treiber;
+    private ConcurrentStackUsingLinkedList elimination;
+    private StackUsingLinkedList locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        treiber = new ConcurrentStackUsingLinkedList();
+        elimination = new ConcurrentStackUsingLinkedList(Runtime.getRuntime().availableProcessors());
+        locked = new StackUsingLinkedList();
+        for (int i = 0; i < PREFILL; i++) {
+            treiber.push(i);
+            elimination.push(i);
+            locked.push(i);
+        }
+    }
+
+    @Benchmark
+    public int treiberPopPush() {
+        int id = treiber.pop(-1);
+        treiber.push(id);
+        return id;
+    }
+
+    @Benchmark
+    public int eliminationPopPush() {
+        int id = elimination.pop(-1);
+        elimination.push(id);
+        return id;
+    }
+
+    @Benchmark
+    public int synchronizedPopPush() {
+        int id;
+        synchronized (locked) {
+            id = locked.isEmpty() ? -1 : locked.pop();
+        }
+        synchronized (locked) {
+            locked.push(id);
+        }
+        return id;
+    }
+
+    // Runs the sweep over 1, 2, 4, ..., 64 threads
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentStackBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.DoublyLinkedList;
+import dataStructures.queues.DequeUsingArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// DequeUsingArray against DoublyLinkedList used as a deque (insertAtHead/insertAtTail,
+// peekHead/peekTail + deleteAtHead/deleteAtTail), both kept half full of size elements.
+// Run with -prof gc to compare memory: gc.alloc.rate.norm is 0 for the deque's steady-state
+// operations and one node per add for the list, and allocateFillAndDrain shows the cost of
+// building each structure from empty.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DequeUsingArrayBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private DequeUsingArray deque;
+    private DoublyLinkedList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deque = new DequeUsingArray(size);
+        list = new DoublyLinkedList();
+        for (int i = 0; i < size / 2; i++) {
+            deque.addLast(i);
+            list.insertAtTail(i);
+        }
+    }
+
+    @Benchmark
+    public int dequeStackPushPop() {
+        deque.addLast(-1);
+        return deque.pollLast();
+    }
+
+    @Benchmark
+    public int listStackPushPop() {
+        list.insertAtTail(-1);
+        int data = list.peekTail();
+        list.deleteAtTail();
+        return data;
+    }
+
+    @Benchmark
+    public int dequeQueueAddPoll() {
+        deque.addLast(-1);
+        return deque.pollFirst();
+    }
+
+    @Benchmark
+    public int listQueueAddPoll() {
+        list.insertAtTail(-1);
+        int data = list.peekHead();
+        list.deleteAtHead();
+        return data;
+    }
+
+    @Benchmark
+    public int dequeBothEnds() {
+        // Owner pushes and pops at the last end while another client takes from the first end
+        deque.addLast(-1);
+        deque.addFirst(-2);
+        int last = deque.pollLast();
+        return last + deque.pollFirst();
+    }
+
+    @Benchmark
+    public int listBothEnds() {
+        list.insertAtTail(-1);
+        list.insertAtHead(-2);
+        int last = list.peekTail();
+        list.deleteAtTail();
+        int first = list.peekHead();
+        list.deleteAtHead();
+        return last + first;
+    }
+
+    @Benchmark
+    public DequeUsingArray dequeAllocateFillAndDrain() {
+        DequeUsingArray fresh = new DequeUsingArray(16);
+        for (int i = 0; i < size; i++) {
+            fresh.addLast(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.pollFirst();
+        }
+        return fresh;
+    }
+
+    @Benchmark
+    public DoublyLinkedList listAllocateFillAndDrain() {
+        DoublyLinkedList fresh = new DoublyLinkedList();
+        for (int i = 0; i < size; i++) {
+            fresh.insertAtTail(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.deleteAtHead();
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,110 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DoublyLinkedListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    // true keeps the value index up to date, making search/deleteByValue O(1)
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private DoublyLinkedList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Values 0..size-1 appended in order, so the list reads 0 <-> ... <-> size-1
+        list = new DoublyLinkedList(indexed);
+        for (int i = 0; i < size; i++) {
+            list.insertAtTail(i);
+        }
+    }
+
+    @Benchmark
+    public int insertDeleteHead() {
+        list.insertAtHead(-1);
+        list.deleteAtHead();
+        return list.getSize();
+    }
+
+    @Benchmark
+    public int insertDeleteTail() {
+        list.insertAtTail(-1);
+        list.deleteAtTail();
+        return list.getSize();
+    }
+
+    @Benchmark
+    public int insertDeleteMiddle() {
+        list.insertAtPosition(-1, size / 2);
+        list.deleteByValue(-1);
+        return list.getSize();
+    }
+
+    @Benchmark
+    public int deleteByValueAndReinsert() {
+        // size-1 sits at the tail, so the delete walks the whole list
+        list.deleteByValue(size - 1);
+        list.insertAtTail(size - 1);
+        return list.getSize();
+    }
+
+    @Benchmark
+    public boolean searchMiddle() {
+        return list.search(size / 2);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return list.search(-1);
+    }
+
+    @Benchmark
+    public int getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        // Visits every position in order; the finger makes each get() one link away
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public DoublyLinkedList buildAndDrain() {
+        DoublyLinkedList fresh = new DoublyLinkedList(indexed);
+        for (int i = 0; i < size; i++) {
+            fresh.insertAtTail(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.deleteAtHead();
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,64 @@
+package dataStructures.benchmarks;
+
+import dataStructures.stacks.GrowableStackUsingArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrowableStackUsingArrayBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private GrowableStackUsingArray stack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Starts tiny and grows to fit, like StackUsingArrayBenchmark's pre-sized stack
+        stack = new GrowableStackUsingArray(16);
+        for (int i = 0; i < size / 2; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public int pushPop() {
+        stack.push(-1);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public int peek() {
+        return stack.peek();
+    }
+
+    @Benchmark
+    public GrowableStackUsingArray fillAndDrain() {
+        // Grows from 16 slots up to size and shrinks back while draining
+        GrowableStackUsingArray fresh = new GrowableStackUsingArray(16);
+        for (int i = 0; i < size; i++) {
+            fresh.push(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.pop();
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,86 @@
+package dataStructures.benchmarks;
+
+import dataStructures.caches.LRUCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Read-through lookups over twice as many keys as the cache holds (~50% hit rate),
+// compared against an access-ordered LinkedHashMap<Integer, Integer>.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LRUCacheBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private LRUCache cache;
+    private LinkedHashMap<Integer, Integer> linkedHashMap;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = new LRUCache(size);
+        final int maxSize = size;
+        linkedHashMap = new LinkedHashMap<>(size * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > maxSize;
+            }
+        };
+        for (int i = 0; i < size; i++) {
+            cache.put(i, i);
+            linkedHashMap.put(i, i);
+        }
+        seed = 1;
+    }
+
+    // xorshift step mapped onto 0..2*size-1
+    private int nextKey() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return (int) ((x & 0xFFFFFFFFL) % (2L * size));
+    }
+
+    @Benchmark
+    public int getOrPut() {
+        int key = nextKey();
+        int value = cache.get(key, -1);
+        if (value == -1) {
+            cache.put(key, key);
+            value = key;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int linkedHashMapGetOrPut() {
+        int key = nextKey();
+        Integer value = linkedHashMap.get(key);
+        if (value == null) {
+            linkedHashMap.put(key, key);
+            return key;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,97 @@
+package dataStructures.benchmarks;
+
+import dataStructures.common.OperationListener;
+import dataStructures.linkedLists.CircularLinkedList;
+import dataStructures.linkedLists.DoublyLinkedList;
+import dataStructures.linkedLists.SinglyLinkedList;
+import dataStructures.queues.QueueUsingLinkedList;
+import dataStructures.stacks.StackUsingLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One insertion and one removal per operation on each linked structure, kept at size elements,
+// with node pooling off (poolCapacity = 0) and on. Run with -prof gc: with the pool on,
+// gc.alloc.rate.norm drops from one node per operation (24 B with compressed references) to 0
+// and gc.count to (close to) 0.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodePoolBenchmark {
+
+    @Param({"0", "1024"})
+    public int poolCapacity;
+
+    @Param({"1000"})
+    public int size;
+
+    private StackUsingLinkedList stack;
+    private QueueUsingLinkedList queue;
+    private SinglyLinkedList singly;
+    private DoublyLinkedList doubly;
+    private CircularLinkedList circular;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = new StackUsingLinkedList(OperationListener.NONE, poolCapacity);
+        queue = new QueueUsingLinkedList(OperationListener.NONE, poolCapacity);
+        singly = new SinglyLinkedList(OperationListener.NONE, poolCapacity);
+        doubly = new DoublyLinkedList(OperationListener.NONE, false, poolCapacity);
+        circular = new CircularLinkedList(OperationListener.NONE, poolCapacity);
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+            queue.enqueue(i);
+            singly.insertAtTail(i);
+            doubly.insertAtTail(i);
+            circular.insertAtTail(i);
+        }
+    }
+
+    @Benchmark
+    public int stackPushPop() {
+        stack.push(-1);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public int queueEnqueueDequeue() {
+        queue.enqueue(-1);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public int singlyInsertTailDeleteHead() {
+        singly.insertAtTail(-1);
+        singly.deleteAtHead();
+        return singly.getSize();
+    }
+
+    @Benchmark
+    public int doublyInsertHeadDeleteTail() {
+        doubly.insertAtHead(-1);
+        doubly.deleteAtTail();
+        return doubly.getSize();
+    }
+
+    @Benchmark
+    public int circularRemoveCurrentInsertBefore() {
+        // The round-robin pattern: retire the current task and admit a new one in its place
+        int retired = circular.removeCurrent();
+        circular.insertBeforeCurrent(retired);
+        return retired;
+    }
+}
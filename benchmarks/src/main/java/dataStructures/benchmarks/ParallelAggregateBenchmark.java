@@ -0,0 +1,117 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.DoublyLinkedList;
+import dataStructures.linkedLists.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Whole-list aggregates: the single-threaded walk against parallelSum/parallelCountIf on a
+// ForkJoinPool of 1, 4, 16 or 64 workers. The lists are not modified between invocations,
+// so the parallel versions reuse their cached segment starts and measure the reduction only.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelAggregateBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    // Parallelism of the ForkJoinPool used by the parallel* benchmarks
+    @Param({"1", "4", "16", "64"})
+    public int threads;
+
+    private SinglyLinkedList singly;
+    private DoublyLinkedList doubly;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        singly = new SinglyLinkedList();
+        doubly = new DoublyLinkedList();
+        for (int i = 0; i < size; i++) {
+            singly.insertAtTail(i);
+            doubly.insertAtTail(i);
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    // Sequential baseline: one walk from head to tail
+    private static long walkSum(SinglyLinkedList list) {
+        long[] sum = new long[1];
+        list.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    private static long walkSum(DoublyLinkedList list) {
+        long[] sum = new long[1];
+        list.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long singlySequentialSum() {
+        return walkSum(singly);
+    }
+
+    @Benchmark
+    public long singlyParallelSum() {
+        return singly.parallelSum(pool);
+    }
+
+    @Benchmark
+    public long doublySequentialSum() {
+        return walkSum(doubly);
+    }
+
+    @Benchmark
+    public long doublyParallelSum() {
+        return doubly.parallelSum(pool);
+    }
+
+    @Benchmark
+    public int doublySequentialCountIf() {
+        int[] count = new int[1];
+        doubly.forEach(value -> {
+            if ((value & 7) == 0) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public int doublyParallelCountIf() {
+        return doubly.parallelCountIf(value -> (value & 7) == 0, pool);
+    }
+
+    // Cost of rebuilding the segment starts after every structural change: the worst case
+    // for the cache, where each aggregate pays for a full walk before the parallel part
+    @Benchmark
+    public long doublyParallelSumAfterChange() {
+        doubly.insertAtTail(-1);
+        doubly.deleteAtTail();
+        return doubly.parallelSum(pool);
+    }
+}
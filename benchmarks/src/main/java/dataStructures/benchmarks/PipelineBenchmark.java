@@ -0,0 +1,190 @@
+package dataStructures.benchmarks;
+
+import dataStructures.pipeline.BatchEventProcessor;
+import dataStructures.pipeline.IntRingBuffer;
+import dataStructures.queues.BlockingQueueUsingArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A three stage parse -> validate -> aggregate pipeline fed by the benchmark thread, built two ways:
+//   - ringPipeline: one IntRingBuffer shared by three BatchEventProcessor stages, each stage
+//     gated on the one before it and the producer gated on the last;
+//   - queuePipeline: three stage threads chained by BlockingQueueUsingArray (CONDITION strategy),
+//     each taking from the queue in front of it and putting into the one behind it.
+// One invocation pushes EVENTS ints through and waits until the last stage has seen them all,
+// so the score is ints through the whole pipeline per microsecond.
+// Each pipeline is its own @State, so only the stage threads of the benchmark being measured
+// exist while it runs; idle stages of the other pipeline cannot take CPU away from it.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final int EVENTS = 100_000;
+    private static final int KEY = 0x5A5A5A5A;
+    private static final int CAPACITY = 1024;
+
+    // Raw input shared by both pipelines, one chunk at a time
+    private static int[] input() {
+        int[] input = new int[256];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = i ^ KEY;
+        }
+        return input;
+    }
+
+    @State(Scope.Benchmark)
+    public static class RingPipeline {
+        private int[] input;
+        private IntRingBuffer ring;
+        private BatchEventProcessor[] processors;
+        private Thread[] threads;
+        private long published;
+        private long sum;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            input = input();
+            ring = new IntRingBuffer(CAPACITY);
+            BatchEventProcessor parse = new BatchEventProcessor(ring, ring.newBarrier(),
+                    (value, sequence, endOfBatch) -> ring.set(sequence, value ^ KEY));
+            BatchEventProcessor validate = new BatchEventProcessor(ring, ring.newBarrier(parse.sequence()),
+                    (value, sequence, endOfBatch) -> {
+                        if (value % 100 == 99) {
+                            ring.set(sequence, -1);
+                        }
+                    });
+            BatchEventProcessor aggregate = new BatchEventProcessor(ring, ring.newBarrier(validate.sequence()),
+                    (value, sequence, endOfBatch) -> {
+                        if (value >= 0) {
+                            sum += value;
+                        }
+                    });
+            ring.addGatingSequences(aggregate.sequence());
+            processors = new BatchEventProcessor[]{parse, validate, aggregate};
+            threads = new Thread[processors.length];
+            for (int i = 0; i < processors.length; i++) {
+                threads[i] = new Thread(processors[i], "ring-stage-" + i);
+                threads[i].setDaemon(true);
+                threads[i].start();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            for (BatchEventProcessor processor : processors) {
+                processor.halt();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueuePipeline {
+        private int[] input;
+        private BlockingQueueUsingArray[] queues;
+        private Thread[] threads;
+        private final AtomicLong aggregated = new AtomicLong();
+        private long delivered;
+        private long sum;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            input = input();
+            queues = new BlockingQueueUsingArray[3];
+            for (int i = 0; i < queues.length; i++) {
+                queues[i] = new BlockingQueueUsingArray(CAPACITY);
+            }
+            threads = new Thread[]{
+                    stage("queue-parse", () -> queues[1].put(queues[0].take() ^ KEY)),
+                    stage("queue-validate", () -> {
+                        int value = queues[1].take();
+                        queues[2].put(value % 100 == 99 ? -1 : value);
+                    }),
+                    stage("queue-aggregate", () -> {
+                        int value = queues[2].take();
+                        if (value >= 0) {
+                            sum += value;
+                        }
+                        aggregated.lazySet(aggregated.get() + 1);
+                    })
+            };
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public long ringPipeline(RingPipeline pipeline) {
+        int[] input = pipeline.input;
+        for (int sent = 0; sent < EVENTS; sent += input.length) {
+            pipeline.ring.putAll(input, 0, Math.min(input.length, EVENTS - sent));
+        }
+        pipeline.published += EVENTS;
+        while (pipeline.processors[2].sequence().get() < pipeline.published - 1) {
+            Thread.onSpinWait();
+        }
+        return pipeline.sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public long queuePipeline(QueuePipeline pipeline) throws InterruptedException {
+        int[] input = pipeline.input;
+        for (int sent = 0; sent < EVENTS; sent++) {
+            pipeline.queues[0].put(input[sent & (input.length - 1)]);
+        }
+        pipeline.delivered += EVENTS;
+        while (pipeline.aggregated.get() < pipeline.delivered) {
+            Thread.onSpinWait();
+        }
+        return pipeline.sum;
+    }
+
+    // One step of a queue stage; take() and put() throw InterruptedException at tear-down
+    private interface Step {
+        void run() throws InterruptedException;
+    }
+
+    private static Thread stage(String name, Step step) {
+        Thread thread = new Thread(() -> {
+            try {
+                while (true) {
+                    step.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,88 @@
+package dataStructures.benchmarks;
+
+import dataStructures.queues.QueueUsingLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueueUsingLinkedListBenchmark {
+
+    private static final int BATCH = 4096;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private QueueUsingLinkedList queue;
+    private int[] batch; // Up to 4K elements moved per batch call, capped by the free room
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = new QueueUsingLinkedList();
+        for (int i = 0; i < size / 2; i++) {
+            queue.enqueue(i);
+        }
+        batch = new int[Math.min(BATCH, size / 2)];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int enqueueDequeue() {
+        queue.enqueue(-1);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public int peek() {
+        return queue.peek();
+    }
+
+    @Benchmark
+    public QueueUsingLinkedList allocateFillAndDrain() {
+        QueueUsingLinkedList fresh = new QueueUsingLinkedList();
+        for (int i = 0; i < size; i++) {
+            fresh.enqueue(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.dequeue();
+        }
+        return fresh;
+    }
+
+    @Benchmark
+    public int batchEnqueueAllDrainTo() {
+        queue.enqueueAll(batch);
+        return queue.drainTo(batch, batch.length);
+    }
+
+    @Benchmark
+    public int loopEnqueueDequeue() {
+        // The same elements as batchEnqueueAllDrainTo, one call each
+        for (int value : batch) {
+            queue.enqueue(value);
+        }
+        int last = 0;
+        for (int i = 0; i < batch.length; i++) {
+            last = queue.dequeue();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,103 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.DoublyLinkedList;
+import dataStructures.queues.CircularQueueUsingArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Rebuilding a structure after a restart: restore() from a snapshot file against replaying
+// one insert per element, plus the cost of writing the snapshot. The files stay in the page
+// cache between invocations, so this measures the CPU side of a warm restart.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private int[] values;                 // What the replay benchmarks insert
+    private DoublyLinkedList list;
+    private CircularQueueUsingArray queue;
+    private Path listFile;
+    private Path queueFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        values = new int[size];
+        list = new DoublyLinkedList();
+        queue = new CircularQueueUsingArray(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            list.insertAtTail(i);
+            queue.enqueue(i);
+        }
+        listFile = Files.createTempFile("list", ".snap");
+        queueFile = Files.createTempFile("queue", ".snap");
+        list.snapshot(listFile);
+        queue.snapshot(queueFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(listFile);
+        Files.deleteIfExists(queueFile);
+    }
+
+    @Benchmark
+    public DoublyLinkedList restoreList() throws IOException {
+        return DoublyLinkedList.restore(listFile);
+    }
+
+    @Benchmark
+    public DoublyLinkedList replayList() {
+        DoublyLinkedList rebuilt = new DoublyLinkedList();
+        for (int value : values) {
+            rebuilt.insertAtTail(value);
+        }
+        return rebuilt;
+    }
+
+    @Benchmark
+    public void snapshotList() throws IOException {
+        list.snapshot(listFile);
+    }
+
+    @Benchmark
+    public CircularQueueUsingArray restoreQueue() throws IOException {
+        return CircularQueueUsingArray.restore(queueFile);
+    }
+
+    @Benchmark
+    public CircularQueueUsingArray replayQueue() {
+        CircularQueueUsingArray rebuilt = new CircularQueueUsingArray(size);
+        for (int value : values) {
+            rebuilt.enqueue(value);
+        }
+        return rebuilt;
+    }
+
+    @Benchmark
+    public void snapshotQueue() throws IOException {
+        queue.snapshot(queueFile);
+    }
+}
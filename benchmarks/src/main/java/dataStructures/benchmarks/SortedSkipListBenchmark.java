@@ -0,0 +1,77 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.SortedSkipList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedSkipListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private SortedSkipList list;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Even values 0, 2, ..., 2*(size-1), so odd keys are misses
+        list = new SortedSkipList();
+        for (int i = 0; i < size; i++) {
+            list.insert(i * 2);
+        }
+        seed = 1;
+    }
+
+    // xorshift step mapped onto 0..2*size-1
+    private int nextKey() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return (int) ((x & 0xFFFFFFFFL) % (2L * size));
+    }
+
+    @Benchmark
+    public boolean searchRandom() {
+        return list.search(nextKey());
+    }
+
+    @Benchmark
+    public int floorRandom() {
+        return list.floor(nextKey());
+    }
+
+    @Benchmark
+    public void rangeScan100(Blackhole blackhole) {
+        int lo = nextKey();
+        list.rangeScan(lo, lo + 200, blackhole::consume);
+    }
+
+    @Benchmark
+    public int insertDeleteRandom() {
+        int key = nextKey() | 1; // Odd, so never already present
+        list.insert(key);
+        list.deleteByValue(key);
+        return list.getSize();
+    }
+}
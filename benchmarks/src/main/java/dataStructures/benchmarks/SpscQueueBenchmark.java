@@ -0,0 +1,133 @@
+package dataStructures.benchmarks;
+
+import dataStructures.queues.CircularQueueUsingArray;
+import dataStructures.queues.SpscQueueUsingArray;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One producer thread and one consumer thread sharing a queue.
+// Every call is a single non-blocking attempt (so neither side can hang at the end of an
+// iteration); the aux counters report how many of those attempts actually moved an element.
+// Compare the "offered"/"polled" rows of the spsc and synchronizedRing groups.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+
+    @Param({"1024", "65536"})
+    public int capacity;
+
+    private SpscQueueUsingArray spsc;
+    private SynchronizedRing synchronizedRing;
+
+    // The way callers share the single-threaded ring today: every call under one monitor
+    static final class SynchronizedRing {
+        private final CircularQueueUsingArray queue;
+
+        SynchronizedRing(int capacity) {
+            queue = new CircularQueueUsingArray(capacity);
+        }
+
+        synchronized boolean offer(int data) {
+            return queue.offer(data);
+        }
+
+        synchronized int poll(int valueIfEmpty) {
+            return queue.isEmpty() ? valueIfEmpty : queue.dequeue();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+        public long offered;
+        public long offerFailed;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            offered = 0;
+            offerFailed = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+        public long polled;
+        public long pollFailed;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            polled = 0;
+            pollFailed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spsc = new SpscQueueUsingArray(capacity);
+        synchronizedRing = new SynchronizedRing(capacity);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscOffer(ProducerCounters counters) {
+        if (spsc.offer(1)) {
+            counters.offered++;
+        } else {
+            counters.offerFailed++;
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscPoll(ConsumerCounters counters) {
+        if (spsc.poll(-1) != -1) {
+            counters.polled++;
+        } else {
+            counters.pollFailed++;
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedRing")
+    @GroupThreads(1)
+    public void synchronizedOffer(ProducerCounters counters) {
+        if (synchronizedRing.offer(1)) {
+            counters.offered++;
+        } else {
+            counters.offerFailed++;
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedRing")
+    @GroupThreads(1)
+    public void synchronizedPoll(ConsumerCounters counters) {
+        if (synchronizedRing.poll(-1) != -1) {
+            counters.polled++;
+        } else {
+            counters.pollFailed++;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dataStructures.benchmarks;
+
+import dataStructures.stacks.StackUsingArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StackUsingArrayBenchmark {
+
+    private static final int BATCH = 4096;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private StackUsingArray stack;
+    private int[] batch; // Up to 4K elements moved per batch call, capped by the free room
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Half full, so the push/pop pair never hits either bound
+        stack = new StackUsingArray(size);
+        for (int i = 0; i < size / 2; i++) {
+            stack.push(i);
+        }
+        batch = new int[Math.min(BATCH, size / 2)];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int pushPop() {
+        stack.push(-1);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public int peek() {
+        return stack.peek();
+    }
+
+    @Benchmark
+    public StackUsingArray fillAndDrain() {
+        StackUsingArray fresh = new StackUsingArray(size);
+        for (int i = 0; i < size; i++) {
+            fresh.push(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.pop();
+        }
+        return fresh;
+    }
+
+    @Benchmark
+    public int batchPushAllPopInto() {
+        stack.pushAll(batch);
+        return stack.popInto(batch, batch.length);
+    }
+
+    @Benchmark
+    public int loopPushPop() {
+        // The same elements as batchPushAllPopInto, one call each
+        for (int value : batch) {
+            stack.push(value);
+        }
+        int last = 0;
+        for (int i = 0; i < batch.length; i++) {
+            last = stack.pop();
+        }
+        return last;
+    }
+}
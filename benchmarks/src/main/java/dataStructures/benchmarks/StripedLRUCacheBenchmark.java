@@ -0,0 +1,80 @@
+package dataStructures.benchmarks;
+
+import dataStructures.caches.StripedLRUCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Every thread does read-through lookups on one shared cache: 64 stripes against a
+// single stripe, which is the same cache behind one global lock.
+// Run main() to sweep 1..64 threads, or pass -t to the JMH jar.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StripedLRUCacheBenchmark {
+
+    private static final int MAX_SIZE = 65_536;
+    private static final int KEY_RANGE = 2 * MAX_SIZE; // ~50% hit rate
+
+    private StripedLRUCache striped;
+    private StripedLRUCache globalLock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        striped = new StripedLRUCache(MAX_SIZE, 64);
+        globalLock = new StripedLRUCache(MAX_SIZE, 1);
+        for (int i = 0; i < MAX_SIZE; i++) {
+            striped.put(i, i);
+            globalLock.put(i, i);
+        }
+    }
+
+    private static int getOrPut(StripedLRUCache cache) {
+        int key = ThreadLocalRandom.current().nextInt(KEY_RANGE);
+        int value = cache.get(key, -1);
+        if (value == -1) {
+            cache.put(key, key);
+            value = key;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int stripedGetOrPut() {
+        return getOrPut(striped);
+    }
+
+    @Benchmark
+    public int globalLockGetOrPut() {
+        return getOrPut(globalLock);
+    }
+
+    // Runs the sweep over 1, 2, 4, ..., 64 threads
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(StripedLRUCacheBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
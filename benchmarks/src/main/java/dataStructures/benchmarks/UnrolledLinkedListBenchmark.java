@@ -0,0 +1,84 @@
+package dataStructures.benchmarks;
+
+import dataStructures.linkedLists.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnrolledLinkedListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private UnrolledLinkedList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Values 0..size-1 inserted at head, so the list reads size-1 -> ... -> 0
+        list = new UnrolledLinkedList();
+        for (int i = 0; i < size; i++) {
+            list.insertAtHead(i);
+        }
+    }
+
+    @Benchmark
+    public boolean insertDeleteHead() {
+        list.insertAtHead(-1);
+        list.deleteAtHead();
+        return list.isEmpty();
+    }
+
+    @Benchmark
+    public boolean insertDeleteTail() {
+        list.insertAtTail(-1);
+        list.deleteAtTail();
+        return list.isEmpty();
+    }
+
+    @Benchmark
+    public boolean deleteByValueAndReinsert() {
+        // 0 sits at the tail, so this is a full walk for the delete and another for the append
+        list.deleteByValue(0);
+        list.insertAtTail(0);
+        return list.isEmpty();
+    }
+
+    @Benchmark
+    public boolean searchMiddle() {
+        return list.search(size / 2);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return list.search(-1);
+    }
+
+    @Benchmark
+    public UnrolledLinkedList buildAndDrain() {
+        UnrolledLinkedList fresh = new UnrolledLinkedList();
+        for (int i = 0; i < size; i++) {
+            fresh.insertAtHead(i);
+        }
+        while (!fresh.isEmpty()) {
+            fresh.deleteAtHead();
+        }
+        return fresh;
+    }
+}
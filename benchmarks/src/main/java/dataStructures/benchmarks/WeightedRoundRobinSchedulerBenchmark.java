@@ -0,0 +1,54 @@
+package dataStructures.benchmarks;
+
+import dataStructures.scheduling.WeightedRoundRobinScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WeightedRoundRobinSchedulerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private WeightedRoundRobinScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Task i has weight 1..4, so on average every 2.5 picks advance the cursor once
+        scheduler = new WeightedRoundRobinScheduler();
+        for (int i = 0; i < size; i++) {
+            scheduler.add(i, 1 + (i & 3));
+        }
+    }
+
+    @Benchmark
+    public int next() {
+        return scheduler.next();
+    }
+
+    @Benchmark
+    public int removeAndReaddCurrent() {
+        int task = scheduler.next();
+        int weight = scheduler.weightOf(task);
+        scheduler.remove(task);
+        scheduler.add(task, weight);
+        return task;
+    }
+}
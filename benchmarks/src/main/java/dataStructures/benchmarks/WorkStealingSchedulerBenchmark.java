@@ -0,0 +1,141 @@
+package dataStructures.benchmarks;
+
+import dataStructures.scheduling.IntTaskHandler;
+import dataStructures.scheduling.WorkStealingScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// The same fork-join Fibonacci task tree (sequential below cutoff) on three schedulers:
+//   - workStealingScheduler: WorkStealingScheduler, fire-and-forget int tasks on Chase-Lev deques;
+//   - forkJoinFireAndForget: ForkJoinPool with the same shape, RecursiveActions that fork both
+//     children and never join, leaves adding to a LongAdder, the root waiting in helpQuiesce();
+//   - forkJoinRecursiveTask: the idiomatic ForkJoinPool version, fork one child and join it.
+// A smaller cutoff means more, smaller tasks, i.e. more weight on the queues themselves.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkStealingSchedulerBenchmark {
+
+    private static final int N = 30;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"10", "20"})
+    public int cutoff;
+
+    private WorkStealingScheduler scheduler;
+    private ForkJoinPool pool;
+    private IntTaskHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = new WorkStealingScheduler(parallelism);
+        pool = new ForkJoinPool(parallelism);
+        final int threshold = cutoff;
+        handler = (task, worker) -> {
+            if (task < threshold) {
+                worker.accumulate(fibonacci(task));
+            } else {
+                worker.fork(task - 1);
+                worker.fork(task - 2);
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long workStealingScheduler() {
+        return scheduler.invoke(handler, N);
+    }
+
+    @Benchmark
+    public long forkJoinFireAndForget() {
+        LongAdder sum = new LongAdder();
+        pool.invoke(new FireAndForgetFib(N, cutoff, sum, true));
+        return sum.sum();
+    }
+
+    @Benchmark
+    public long forkJoinRecursiveTask() {
+        return pool.invoke(new RecursiveFib(N, cutoff));
+    }
+
+    static long fibonacci(int n) {
+        return n < 2 ? n : fibonacci(n - 1) + fibonacci(n - 2);
+    }
+
+    static final class FireAndForgetFib extends RecursiveAction {
+        private final int n;
+        private final int cutoff;
+        private final LongAdder sum;
+        private final boolean root;
+
+        FireAndForgetFib(int n, int cutoff, LongAdder sum, boolean root) {
+            this.n = n;
+            this.cutoff = cutoff;
+            this.sum = sum;
+            this.root = root;
+        }
+
+        @Override
+        protected void compute() {
+            if (n < cutoff) {
+                sum.add(fibonacci(n));
+            } else {
+                new FireAndForgetFib(n - 1, cutoff, sum, false).fork();
+                new FireAndForgetFib(n - 2, cutoff, sum, false).fork();
+            }
+            if (root) {
+                ForkJoinTask.helpQuiesce(); // Returns once the pool has no task left
+            }
+        }
+    }
+
+    static final class RecursiveFib extends RecursiveTask<Long> {
+        private final int n;
+        private final int cutoff;
+
+        RecursiveFib(int n, int cutoff) {
+            this.n = n;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Long compute() {
+            if (n < cutoff) {
+                return fibonacci(n);
+            }
+            RecursiveFib left = new RecursiveFib(n - 1, cutoff);
+            left.fork();
+            long right = new RecursiveFib(n - 2, cutoff).compute();
+            return left.join() + right;
+        }
+    }
+}
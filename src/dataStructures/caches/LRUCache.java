@@ -0,0 +1,234 @@
+package dataStructures.caches;
+
+import dataStructures.hashing.IntIntHashMap;
+
+import java.util.Random;
+
+// Least-recently-used cache from primitive int keys to primitive int values.
+// Every entry lives in a slot 0 .. maxSize-1 of parallel int arrays holding its key, its value
+// and the prev/next slots of a doubly linked recency list (most recent at the head). An
+// IntIntHashMap maps each cached key to its slot, so a hit costs one hash probe followed by
+// array reads and a relink at the head, and a key is hashed in one place only. When the cache
+// is full the entry at the tail is evicted and its slot reused for the new key.
+// get, put and eviction are all O(1), nothing is boxed and no node is allocated after construction.
+// The recency list is kept here rather than in a DoublyLinkedList: the list's value index only
+// finds a key's node, so the value would need a second map and a second probe on every hit.
+// Not thread-safe; see StripedLRUCache for concurrent use.
+public class LRUCache {
+
+    private static final int NIL = -1; // No slot
+
+    private final IntIntHashMap slots; // Slot of every cached key
+    private final int[] keys;          // keys[slot] is the key cached in slot
+    private final int[] values;        // values[slot] is its value
+    private final int[] prev;          // Slot of the next more recently used entry, or NIL at the head
+    private final int[] next;          // Slot of the next less recently used entry, or NIL at the tail;
+                                       // for a free slot, the next free slot
+    private final int maxSize;         // Entries kept before the least recently used is evicted
+    private int head = NIL;            // Most recently used slot
+    private int tail = NIL;            // Least recently used slot
+    private int freeHead = NIL;        // First slot freed by remove(), reused before unused ones
+    private int used;                  // Slots 0 .. used-1 have been handed out at least once
+    private long hits;                 // get() calls that found their key
+    private long misses;               // get() calls that did not
+    private long evictions;            // Entries dropped to make room for new keys
+
+    // Constructor for an empty cache holding at most maxSize entries
+    public LRUCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        }
+        this.slots = new IntIntHashMap(maxSize);
+        this.keys = new int[maxSize];
+        this.values = new int[maxSize];
+        this.prev = new int[maxSize];
+        this.next = new int[maxSize];
+        this.maxSize = maxSize;
+    }
+
+    // Method to return the number of cached entries
+    public int size() {
+        return slots.size();
+    }
+
+    // Method to return the maximum number of entries
+    public int maxSize() {
+        return maxSize;
+    }
+
+    // Method to check if the cache is empty
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    // Unlinks slot from the recency list
+    private void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        if (before == NIL) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NIL) {
+            tail = before;
+        } else {
+            prev[after] = before;
+        }
+    }
+
+    // Links slot in at the head of the recency list
+    private void linkAtHead(int slot) {
+        prev[slot] = NIL;
+        next[slot] = head;
+        if (head == NIL) {
+            tail = slot;
+        } else {
+            prev[head] = slot;
+        }
+        head = slot;
+    }
+
+    // Marks slot most recently used
+    private void moveToHead(int slot) {
+        if (slot != head) {
+            unlink(slot);
+            linkAtHead(slot);
+        }
+    }
+
+    // Method to return the value for key and mark it most recently used,
+    // or valueIfAbsent if it is not cached
+    public int get(int key, int valueIfAbsent) {
+        int slot = slots.get(key, NIL);
+        if (slot == NIL) {
+            misses++;
+            return valueIfAbsent;
+        }
+        hits++;
+        moveToHead(slot);
+        return values[slot];
+    }
+
+    // Method to check if key is cached, without counting a hit or changing its recency
+    public boolean containsKey(int key) {
+        return slots.containsKey(key);
+    }
+
+    // Method to cache value under key and mark it most recently used,
+    // evicting the least recently used entry if the cache is full
+    public void put(int key, int value) {
+        int slot = slots.get(key, NIL);
+        if (slot != NIL) {
+            values[slot] = value;
+            moveToHead(slot);
+            return;
+        }
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else if (used < maxSize) {
+            slot = used++;
+        } else {
+            // Full: the least recently used entry gives up its slot
+            slot = tail;
+            unlink(slot);
+            slots.remove(keys[slot]);
+            evictions++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        linkAtHead(slot);
+        slots.put(key, slot);
+    }
+
+    // Method to drop key from the cache; returns true if it was cached
+    public boolean remove(int key) {
+        int slot = slots.get(key, NIL);
+        if (slot == NIL) {
+            return false;
+        }
+        slots.remove(key);
+        unlink(slot);
+        next[slot] = freeHead;
+        freeHead = slot;
+        return true;
+    }
+
+    // Method to return the number of get() calls that found their key
+    public long hits() {
+        return hits;
+    }
+
+    // Method to return the number of get() calls that did not find their key
+    public long misses() {
+        return misses;
+    }
+
+    // Method to return the number of entries evicted to make room
+    public long evictions() {
+        return evictions;
+    }
+
+    // Method to display the cached keys from most to least recently used
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("Cache is empty.");
+            return;
+        }
+        StringBuilder line = new StringBuilder("Cache (most recent first): ");
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            line.append(keys[slot]);
+            if (next[slot] != NIL) {
+                line.append(" <-> ");
+            }
+        }
+        System.out.println(line);
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) {
+        LRUCache cache = new LRUCache(3);
+        System.out.println("Is cache empty? " + cache.isEmpty()); // true
+
+        System.out.println("\n--- Filling the cache ---");
+        cache.put(1, 100);
+        cache.put(2, 200);
+        cache.put(3, 300);
+        cache.display(); // 3 <-> 2 <-> 1
+
+        System.out.println("\n--- get() refreshes recency ---");
+        System.out.println("get(1): " + cache.get(1, -1)); // 100
+        cache.display(); // 1 <-> 3 <-> 2
+
+        System.out.println("\n--- put() on a full cache evicts the least recently used ---");
+        cache.put(4, 400); // Evicts 2
+        cache.display(); // 4 <-> 1 <-> 3
+        System.out.println("get(2): " + cache.get(2, -1)); // -1
+        cache.put(3, 333); // Update in place; 3 becomes most recent
+        cache.display(); // 3 <-> 4 <-> 1
+        System.out.println("get(3): " + cache.get(3, -1)); // 333
+
+        System.out.println("\n--- Removing an entry ---");
+        System.out.println("remove(4): " + cache.remove(4)); // true
+        System.out.println("remove(4) again: " + cache.remove(4)); // false
+        cache.display(); // 3 <-> 1
+        System.out.println("Size: " + cache.size() + "/" + cache.maxSize()); // 2/3
+
+        System.out.println("\n--- Counters ---");
+        System.out.println("Hits: " + cache.hits() + ", Misses: " + cache.misses()
+                + ", Evictions: " + cache.evictions()); // 2, 1, 1
+
+        System.out.println("\n--- 1,000,000 lookups over 2,000 keys with room for 1,000 ---");
+        LRUCache big = new LRUCache(1000);
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000_000; i++) {
+            int key = random.nextInt(2000);
+            if (big.get(key, -1) == -1) {
+                big.put(key, key * 10);
+            }
+        }
+        System.out.println("Hits: " + big.hits() + ", Misses: " + big.misses()
+                + ", Evictions: " + big.evictions() + ", Size: " + big.size());
+    }
+}
@@ -0,0 +1,212 @@
+package dataStructures.caches;
+
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread-safe LRU cache split into independent stripes, each an LRUCache behind its own lock.
+// A key always maps to the same stripe, so threads working on different stripes never contend
+// and there is no global lock. Recency and eviction are per stripe: the entry evicted is the
+// least recently used of its stripe, which approximates global LRU once stripes hold more
+// than a handful of entries each.
+public class StripedLRUCache {
+
+    private final LRUCache[] stripes;      // Independent caches; the length is a power of two
+    private final ReentrantLock[] locks;   // locks[i] guards stripes[i]
+    private final int stripeShift;         // Picks the stripe from the top bits of the key hash
+
+    // Constructor for a cache of at most maxSize entries with one stripe per available processor
+    public StripedLRUCache(int maxSize) {
+        this(maxSize, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Constructor for a cache of at most maxSize entries split over stripeCount stripes
+    // (rounded up to a power of two, and capped so every stripe holds at least one entry)
+    public StripedLRUCache(int maxSize, int stripeCount) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive.");
+        }
+        int stripesLength = Integer.highestOneBit(stripeCount);
+        if (stripesLength < stripeCount && stripesLength < 1 << 30) {
+            stripesLength <<= 1;
+        }
+        while (stripesLength > maxSize) {
+            stripesLength >>= 1;
+        }
+        this.stripes = new LRUCache[stripesLength];
+        this.locks = new ReentrantLock[stripesLength];
+        for (int i = 0; i < stripesLength; i++) {
+            // Spread maxSize as evenly as possible so the stripes add up to exactly maxSize
+            int stripeSize = maxSize / stripesLength + (i < maxSize % stripesLength ? 1 : 0);
+            stripes[i] = new LRUCache(stripeSize);
+            locks[i] = new ReentrantLock();
+        }
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripesLength);
+    }
+
+    // Stripe for key. Uses the top bits of a multiplicative hash: the stripe's own hash map
+    // indexes by the low bits of its hash, so keys sharing a stripe still spread out there.
+    private int stripeFor(int key) {
+        if (stripes.length == 1) {
+            return 0; // A shift by 32 would be a no-op in Java
+        }
+        return (key * 0x85EBCA6B) >>> stripeShift;
+    }
+
+    // Method to return the number of stripes
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    // Method to return the value for key and mark it most recently used,
+    // or valueIfAbsent if it is not cached
+    public int get(int key, int valueIfAbsent) {
+        int i = stripeFor(key);
+        ReentrantLock lock = locks[i];
+        lock.lock();
+        try {
+            return stripes[i].get(key, valueIfAbsent);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to check if key is cached, without counting a hit or changing its recency
+    public boolean containsKey(int key) {
+        int i = stripeFor(key);
+        ReentrantLock lock = locks[i];
+        lock.lock();
+        try {
+            return stripes[i].containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to cache value under key, evicting the least recently used entry of its stripe if full
+    public void put(int key, int value) {
+        int i = stripeFor(key);
+        ReentrantLock lock = locks[i];
+        lock.lock();
+        try {
+            stripes[i].put(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to drop key from the cache; returns true if it was cached
+    public boolean remove(int key) {
+        int i = stripeFor(key);
+        ReentrantLock lock = locks[i];
+        lock.lock();
+        try {
+            return stripes[i].remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to return the number of cached entries.
+    // Each stripe is read under its lock, but the total is not an atomic snapshot.
+    public int size() {
+        int total = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                total += stripes[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    // Method to return the maximum number of entries across all stripes
+    public int maxSize() {
+        int total = 0;
+        for (LRUCache stripe : stripes) {
+            total += stripe.maxSize();
+        }
+        return total;
+    }
+
+    // Method to return the number of get() calls that found their key
+    public long hits() {
+        long total = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                total += stripes[i].hits();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    // Method to return the number of get() calls that did not find their key
+    public long misses() {
+        long total = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                total += stripes[i].misses();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    // Method to return the number of entries evicted to make room
+    public long evictions() {
+        long total = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                total += stripes[i].evictions();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws InterruptedException {
+        StripedLRUCache cache = new StripedLRUCache(1000, 8);
+        System.out.println("Stripes: " + cache.stripeCount() + ", Max size: " + cache.maxSize()); // 8, 1000
+
+        System.out.println("\n--- 4 threads, 250,000 lookups each over 2,000 keys ---");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 250_000; i++) {
+                    int key = random.nextInt(2000);
+                    int value = cache.get(key, -1);
+                    if (value == -1) {
+                        cache.put(key, key * 10);
+                    } else if (value != key * 10) {
+                        throw new IllegalStateException("Wrong value " + value + " for key " + key);
+                    }
+                    if ((i & 1023) == 0) {
+                        Thread.yield(); // Let the other threads interleave on a single core
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.println("Hits + Misses: " + (cache.hits() + cache.misses())); // 1000000
+        System.out.println("Hits: " + cache.hits() + ", Misses: " + cache.misses()
+                + ", Evictions: " + cache.evictions());
+        System.out.println("Size: " + cache.size()); // 1000
+    }
+}
@@ -0,0 +1,91 @@
+package dataStructures.common;
+
+// Listener that narrates every operation on System.out, as the demos in main() do
+public class ConsoleListener implements OperationListener {
+
+    private final String name; // Printed in front of every message
+
+    // Constructor for ConsoleListener
+    public ConsoleListener(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void onEvent(Operation operation, int value, int size) {
+        String message;
+        switch (operation) {
+            case CREATED:
+                message = value < 0 ? "created." : "created with capacity: " + value;
+                break;
+            case INSERT_HEAD:
+                message = value + " inserted at head.";
+                break;
+            case INSERT_TAIL:
+                message = value + " inserted at tail.";
+                break;
+            case INSERT_AT_POSITION:
+                message = value + " inserted at position.";
+                break;
+            case INSERT:
+                message = value + " inserted.";
+                break;
+            case DELETE_HEAD:
+                message = value + " deleted from head.";
+                break;
+            case DELETE_TAIL:
+                message = value + " deleted from tail.";
+                break;
+            case DELETE_VALUE:
+                message = value + " deleted from the list.";
+                break;
+            case DELETE_AT_POSITION:
+                message = value + " deleted from position.";
+                break;
+            case SET:
+                message = value + " set at position.";
+                break;
+            case PUSH:
+                message = value + " pushed to stack.";
+                break;
+            case POP:
+                message = value + " popped from stack.";
+                break;
+            case ENQUEUE:
+                message = value + " enqueued.";
+                break;
+            case DEQUEUE:
+                message = value + " dequeued.";
+                break;
+            case TRANSFER_IN:
+                message = value + " elements transferred in.";
+                break;
+            case TRANSFER_OUT:
+                message = value + " elements transferred out.";
+                break;
+            case STEAL:
+                message = value + " stolen.";
+                break;
+            case RESET:
+                message = "became empty, pointers reset.";
+                break;
+            case EMPTY:
+                message = "Deletion failed: structure is empty.";
+                break;
+            case NOT_FOUND:
+                message = "Deletion failed: Value " + value + " not found.";
+                break;
+            case INVALID_POSITION:
+                message = "Invalid position: " + value + ".";
+                break;
+            case OUT_OF_BOUNDS:
+                message = "Position " + value + " is out of bounds. Inserting at tail instead.";
+                break;
+            default:
+                message = operation + " " + value;
+        }
+        if (size >= 0 && operation != Operation.CREATED) {
+            message += " Current size: " + size;
+        }
+        System.out.println(name + ": " + message);
+    }
+}
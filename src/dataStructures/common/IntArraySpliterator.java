@@ -0,0 +1,84 @@
+package dataStructures.common;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+// Spliterator over the logical positions [origin, fence) of a sequence stored in an int[].
+// Position i is stored at array[(start + direction * i) & mask], which covers the layouts used
+// in this project: a plain slice (direction 1, mask -1), a stack read from the top down
+// (direction -1, mask -1) and a ring buffer (direction 1, mask = length - 1).
+// trySplit() hands out the first half of the remaining positions, so parallel streams split
+// the work evenly and every part reports its exact size.
+public class IntArraySpliterator implements Spliterator.OfInt {
+
+    private final int[] array;
+    private final int start;      // Array index of position 0 (before masking)
+    private final int direction;  // 1 to read forwards, -1 to read backwards
+    private final int mask;       // -1 for no wrap-around, or array.length - 1 for a ring
+    private int origin;           // Next position to visit
+    private final int fence;      // One past the last position to visit
+
+    // Constructor for a spliterator over positions 0 .. size-1
+    public IntArraySpliterator(int[] array, int start, int direction, int mask, int size) {
+        this(array, start, direction, mask, 0, size);
+    }
+
+    private IntArraySpliterator(int[] array, int start, int direction, int mask, int origin, int fence) {
+        this.array = array;
+        this.start = start;
+        this.direction = direction;
+        this.mask = mask;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    // Spliterator over array[from .. to-1] in index order
+    public static IntArraySpliterator forward(int[] array, int from, int to) {
+        return new IntArraySpliterator(array, from, 1, -1, to - from);
+    }
+
+    // Spliterator over array[top], array[top-1], ..., array[0], i.e. a stack in pop order
+    public static IntArraySpliterator topDown(int[] array, int top) {
+        return new IntArraySpliterator(array, top, -1, -1, top + 1);
+    }
+
+    @Override
+    public OfInt trySplit() {
+        int middle = (origin + fence) >>> 1;
+        if (middle <= origin) {
+            return null;
+        }
+        IntArraySpliterator prefix = new IntArraySpliterator(array, start, direction, mask, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(array[(start + direction * origin) & mask]);
+        origin++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        int[] a = array;
+        for (int i = origin; i < fence; i++) {
+            action.accept(a[(start + direction * i) & mask]);
+        }
+        origin = fence;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
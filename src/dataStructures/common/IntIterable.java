@@ -0,0 +1,36 @@
+package dataStructures.common;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+// Primitive counterpart of Iterable<Integer> for the int structures in this project.
+// Elements come out in the structure's natural order: head to tail for lists, top to bottom
+// (pop order) for stacks, and front to rear (dequeue order) for queues. Nothing is boxed.
+// Like the structures themselves, iterators are not safe against concurrent modification:
+// do not mutate a structure while one of its iterators or streams is in use.
+public interface IntIterable {
+
+    // Method to return an iterator over the elements in natural order
+    PrimitiveIterator.OfInt iterator();
+
+    // Method to pass every element, in natural order, to action.
+    // Implementations override this with a direct loop that creates no iterator.
+    default void forEach(IntConsumer action) {
+        iterator().forEachRemaining(action);
+    }
+
+    // Method to return a spliterator over the elements. Implementations that know their size
+    // override this to report SIZED, which lets parallel streams split the work evenly.
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    // Method to return a sequential IntStream over the elements; call parallel() on it for a parallel one
+    default IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+}
@@ -0,0 +1,94 @@
+package dataStructures.common;
+
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+// Bounded free list of nodes for the linked structures in this project, so that a structure
+// that keeps inserting and removing reuses its nodes instead of allocating a new one for every
+// insertion and leaving the removed one to the garbage collector.
+// The structure describes its node type once, when it creates the pool: factory allocates a
+// node holding a value, setData stores a value in a pooled node, and clearLinks drops the links
+// of a node being pooled, so a pooled node keeps nothing else reachable. After that it asks
+// acquire() for every new node and hands every node it unlinks to release().
+// Nodes beyond the capacity are dropped, so a structure that shrinks after a burst holds on to
+// at most capacity spare nodes. A capacity of 0 turns pooling off.
+// One pool belongs to one structure instance and, like the structures, is not thread-safe.
+public class NodePool<T> {
+
+    private final Object[] nodes;  // nodes[0 .. size-1] are free
+    private final IntFunction<T> factory;
+    private final ObjIntConsumer<T> setData;
+    private final Consumer<T> clearLinks;
+    private int size;              // Number of free nodes
+    private long hits;             // acquire() calls that returned a pooled node
+    private long misses;           // acquire() calls that found the pool empty
+    private final PoolStats stats = new Stats(); // Read-only view handed out by stats()
+
+    // Constructor for a pool that keeps at most capacity free nodes of the kind factory makes
+    public NodePool(int capacity, IntFunction<T> factory, ObjIntConsumer<T> setData, Consumer<T> clearLinks) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative.");
+        }
+        if (factory == null || setData == null || clearLinks == null) {
+            throw new IllegalArgumentException("Node functions cannot be null.");
+        }
+        this.nodes = new Object[capacity];
+        this.factory = factory;
+        this.setData = setData;
+        this.clearLinks = clearLinks;
+    }
+
+    // Method to return a node holding data: a pooled one if there is any, otherwise a new one
+    @SuppressWarnings("unchecked")
+    public T acquire(int data) {
+        if (size == 0) {
+            misses++;
+            return factory.apply(data);
+        }
+        hits++;
+        T node = (T) nodes[--size];
+        nodes[size] = null;
+        setData.accept(node, data);
+        return node;
+    }
+
+    // Method to take back a node that is no longer linked; returns false if the pool was full
+    // and the node was left to the garbage collector
+    public boolean release(T node) {
+        if (size == nodes.length) {
+            return false;
+        }
+        clearLinks.accept(node);
+        nodes[size++] = node;
+        return true;
+    }
+
+    // Method to return a live, read-only view of the pool's counters. It is a separate object,
+    // so a structure can hand it out without letting callers acquire() or release() its nodes.
+    public PoolStats stats() {
+        return stats;
+    }
+
+    private final class Stats implements PoolStats {
+        @Override
+        public long hits() {
+            return hits;
+        }
+
+        @Override
+        public long misses() {
+            return misses;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int capacity() {
+            return nodes.length;
+        }
+    }
+}
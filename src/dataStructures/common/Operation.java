@@ -0,0 +1,27 @@
+package dataStructures.common;
+
+// The kinds of events a data structure reports to its OperationListener
+public enum Operation {
+    CREATED,            // value = capacity (or -1 when unbounded)
+    INSERT_HEAD,        // value = inserted data
+    INSERT_TAIL,        // value = inserted data
+    INSERT_AT_POSITION, // value = inserted data
+    INSERT,             // value = inserted data; the structure chose its position
+    DELETE_HEAD,        // value = deleted data
+    DELETE_TAIL,        // value = deleted data
+    DELETE_VALUE,       // value = deleted data
+    DELETE_AT_POSITION, // value = deleted data
+    SET,                // value = data written over an existing element
+    PUSH,               // value = pushed data
+    POP,                // value = popped data
+    ENQUEUE,            // value = enqueued data
+    DEQUEUE,            // value = dequeued data
+    TRANSFER_IN,        // value = number of elements spliced onto the structure in one step
+    TRANSFER_OUT,       // value = number of elements spliced off the structure in one step
+    STEAL,              // value = data taken from the far end by a thread that does not own the structure
+    RESET,              // value unused; the structure went back to its initial state
+    EMPTY,              // value unused; a deletion was attempted on an empty structure
+    NOT_FOUND,          // value = data that was looked for
+    INVALID_POSITION,   // value = rejected position
+    OUT_OF_BOUNDS       // value = position past the end; the structure falls back to the tail
+}
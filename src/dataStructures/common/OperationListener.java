@@ -0,0 +1,14 @@
+package dataStructures.common;
+
+// Receives one callback per mutation of a data structure.
+// The callback only carries primitives and an enum constant, so a structure using NONE
+// does no string building and no allocation on its hot path.
+@FunctionalInterface
+public interface OperationListener {
+
+    // Default listener: ignores every event
+    OperationListener NONE = (operation, value, size) -> { };
+
+    // size is the number of elements after the operation, or -1 if the structure does not track it
+    void onEvent(Operation operation, int value, int size);
+}
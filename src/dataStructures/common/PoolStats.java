@@ -0,0 +1,17 @@
+package dataStructures.common;
+
+// Read-only view of a NodePool's counters, which the pooled structures hand out through poolStats()
+public interface PoolStats {
+
+    // Method to return how many acquire() calls reused a pooled node
+    long hits();
+
+    // Method to return how many acquire() calls had to allocate (all of them when pooling is off)
+    long misses();
+
+    // Method to return the number of spare nodes currently held by the pool
+    int size();
+
+    // Method to return the maximum number of spare nodes the pool keeps
+    int capacity();
+}
@@ -0,0 +1,125 @@
+package dataStructures.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+// Reads a snapshot file written by SnapshotWriter (see there for the layout).
+// The constructor checks the header against the file, then the elements are read in order
+// through read-only memory-mapped windows of 64 MB.
+public class SnapshotReader implements Closeable {
+
+    private final FileChannel channel;
+    private final int size;       // Number of elements in the file
+    private final int[] state;    // Structure state from the header
+    private int read;             // Number of elements read so far
+    private long windowEnd;       // File offset just past the current window
+    private IntBuffer window;     // Int view of the current mapped window, or null before the first
+
+    // Constructor that opens path and checks that it is a snapshot of the expected type.
+    // Throws IOException if the file is not a snapshot, was written by another structure or
+    // format version, or is shorter or longer than its header says.
+    public SnapshotReader(Path path, SnapshotType expectedType) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileBytes = channel.size();
+            if (fileBytes < SnapshotWriter.HEADER_BYTES) {
+                throw new IOException("Not a snapshot file (too short): " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(SnapshotWriter.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Not a snapshot file (too short): " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != SnapshotWriter.MAGIC) {
+                throw new IOException("Not a snapshot file (bad magic number): " + path);
+            }
+            int version = header.getInt();
+            if (version != SnapshotWriter.VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            SnapshotType type = SnapshotType.forId(header.getInt());
+            if (type != expectedType) {
+                throw new IOException("Snapshot holds a " + type + ", not a " + expectedType + ": " + path);
+            }
+            this.size = header.getInt();
+            if (size < 0 || fileBytes != SnapshotWriter.HEADER_BYTES + 4L * size) {
+                throw new IOException("Snapshot length does not match its size of " + size + ": " + path);
+            }
+            this.state = new int[SnapshotWriter.STATE_SLOTS];
+            for (int i = 0; i < state.length; i++) {
+                state[i] = header.getInt();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.windowEnd = SnapshotWriter.HEADER_BYTES;
+    }
+
+    // Method to return the number of elements in the snapshot
+    public int size() {
+        return size;
+    }
+
+    // Method to return state int slot (0 .. STATE_SLOTS-1) from the header
+    public int state(int slot) {
+        return state[slot];
+    }
+
+    // Maps the next window of the payload
+    private void nextWindow() throws IOException {
+        long payloadEnd = SnapshotWriter.HEADER_BYTES + 4L * size;
+        long length = Math.min(SnapshotWriter.WINDOW_BYTES, payloadEnd - windowEnd);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, length)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        windowEnd += length;
+    }
+
+    // Method to return the next element
+    public int readInt() throws IOException {
+        if (read == size) {
+            throw new NoSuchElementException("All " + size + " elements have been read.");
+        }
+        if (window == null || !window.hasRemaining()) {
+            nextWindow();
+        }
+        read++;
+        return window.get();
+    }
+
+    // Method to read the next length elements into dst[offset .. offset+length-1], in bulk
+    public void read(int[] dst, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + dst.length);
+        }
+        if (length > size - read) {
+            throw new NoSuchElementException("Only " + (size - read) + " elements are left to read.");
+        }
+        while (length > 0) {
+            if (window == null || !window.hasRemaining()) {
+                nextWindow();
+            }
+            int chunk = Math.min(length, window.remaining());
+            window.get(dst, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            read += chunk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
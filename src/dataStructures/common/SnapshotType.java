@@ -0,0 +1,42 @@
+package dataStructures.common;
+
+// The structures that can be written to a snapshot file. The id is stored in the file header,
+// so a snapshot can only be restored into the kind of structure that wrote it.
+// Ids are part of the file format: never renumber an existing constant.
+public enum SnapshotType {
+    SINGLY_LINKED_LIST(1),
+    DOUBLY_LINKED_LIST(2),
+    CIRCULAR_LINKED_LIST(3),
+    COMPACT_CIRCULAR_LINKED_LIST(4),
+    OFF_HEAP_DOUBLY_LINKED_LIST(5),
+    UNROLLED_LINKED_LIST(6),
+    SORTED_SKIP_LIST(7),
+    STACK_USING_ARRAY(8),
+    GROWABLE_STACK_USING_ARRAY(9),
+    STACK_USING_LINKED_LIST(10),
+    QUEUE_USING_ARRAY(11),
+    CIRCULAR_QUEUE_USING_ARRAY(12),
+    QUEUE_USING_LINKED_LIST(13),
+    DEQUE_USING_ARRAY(14);
+
+    private final int id;
+
+    SnapshotType(int id) {
+        this.id = id;
+    }
+
+    // Method to return the id stored in the file header
+    public int id() {
+        return id;
+    }
+
+    // Method to return the type with the given id, or null if there is none
+    public static SnapshotType forId(int id) {
+        for (SnapshotType type : values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package dataStructures.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Writes a snapshot file: a 32-byte header followed by the elements as packed ints.
+//
+//   offset  0: magic 0x534E4150 ("SNAP")
+//   offset  4: format version (1)
+//   offset  8: SnapshotType id
+//   offset 12: number of elements
+//   offset 16: four ints of structure state (capacity, front index, cursor, ...), 0 if unused
+//   offset 32: the elements, 4 bytes each, in the structure's iteration order
+//
+// Everything is little-endian. The payload is written through memory-mapped windows of 64 MB,
+// so a snapshot of any int-sized structure is one sequential pass with no per-element call
+// into the file system. Exactly size elements must be written before close().
+public class SnapshotWriter implements Closeable {
+
+    public static final int MAGIC = 0x534E4150;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 32;
+    public static final int STATE_SLOTS = 4;
+    static final int WINDOW_BYTES = 1 << 26; // Payload bytes mapped at a time
+
+    private final FileChannel channel;
+    private final int size;      // Number of elements the header promises
+    private int written;         // Number of elements written so far
+    private long windowEnd;      // File offset just past the current window
+    private IntBuffer window;    // Int view of the current mapped window, or null before the first
+
+    // Constructor that creates (or truncates) path and writes the header.
+    // state holds up to STATE_SLOTS ints of structure state; missing slots are written as 0.
+    public SnapshotWriter(Path path, SnapshotType type, int size, int... state) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative.");
+        }
+        if (state.length > STATE_SLOTS) {
+            throw new IllegalArgumentException("At most " + STATE_SLOTS + " state ints fit in the header.");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.size = size;
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(type.id()).putInt(size);
+            for (int value : state) {
+                header.putInt(value);
+            }
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.windowEnd = HEADER_BYTES;
+    }
+
+    // Maps the next window of the payload
+    private void nextWindow() throws IOException {
+        long payloadEnd = HEADER_BYTES + 4L * size;
+        long length = Math.min(WINDOW_BYTES, payloadEnd - windowEnd);
+        window = channel.map(FileChannel.MapMode.READ_WRITE, windowEnd, length)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        windowEnd += length;
+    }
+
+    private void checkRoom(int count) {
+        if (count > size - written) {
+            throw new IllegalStateException("Snapshot holds " + size + " elements; cannot write "
+                    + count + " more after " + written + ".");
+        }
+    }
+
+    // Method to write the next element
+    public void writeInt(int value) throws IOException {
+        checkRoom(1);
+        if (window == null || !window.hasRemaining()) {
+            nextWindow();
+        }
+        window.put(value);
+        written++;
+    }
+
+    // Method to write values[offset .. offset+length-1] as the next elements, in bulk
+    public void write(int[] values, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        checkRoom(length);
+        while (length > 0) {
+            if (window == null || !window.hasRemaining()) {
+                nextWindow();
+            }
+            int chunk = Math.min(length, window.remaining());
+            window.put(values, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            written += chunk;
+        }
+    }
+
+    // Method to close the file; throws IllegalStateException if fewer than size elements were written
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+        if (written != size) {
+            throw new IllegalStateException("Snapshot closed after " + written + " of " + size + " elements.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dataStructures.hashing;
+
+// Helpers shared by the open-addressing maps in this package
+final class HashMixer {
+
+    static final int ARRAY_HEADER_BYTES = 16; // Typical array header on a 64-bit JVM
+    static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private HashMixer() {
+    }
+
+    // Spreads the bits of an int key so that sequential or strided keys do not cluster
+    // in the low bits used for the slot index (Fibonacci hashing plus a final xor-shift)
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Power-of-two table length that keeps expectedSize entries under the 3/4 load factor
+    static int tableSizeFor(int expectedSize) {
+        long needed = (long) expectedSize * 4 / 3 + 1;
+        if (needed >= MAX_TABLE_SIZE) {
+            return MAX_TABLE_SIZE;
+        }
+        int capacity = Integer.highestOneBit((int) needed);
+        if (capacity < needed) {
+            capacity <<= 1;
+        }
+        return Math.max(capacity, 4);
+    }
+}
@@ -0,0 +1,178 @@
+package dataStructures.hashing;
+
+import java.util.Arrays;
+
+// Open-addressing hash map from primitive int keys to primitive int values; nothing is boxed.
+// Same layout and probing as IntObjectHashMap, with a parallel boolean[] marking used slots
+// since every int is a legal value.
+public class IntIntHashMap {
+
+    private int[] keys;      // Key of each slot (meaningless where used[slot] is false)
+    private int[] values;    // Value of each slot
+    private boolean[] used;  // Whether each slot holds an entry
+    private int mask;        // keys.length - 1; the table length is always a power of two
+    private int size;        // Number of entries
+    private int resizeAt;    // Grow once size reaches this
+
+    // Constructor for an empty map sized for about 16 entries
+    public IntIntHashMap() {
+        this(16);
+    }
+
+    // Constructor for an empty map that can hold expectedSize entries without resizing
+    public IntIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative.");
+        }
+        allocate(HashMixer.tableSizeFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+
+    // Method to return the number of entries
+    public int size() {
+        return size;
+    }
+
+    // Method to check if the map is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Slot holding key, or -1 if it is absent
+    private int find(int key) {
+        int slot = HashMixer.mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Method to check if key is present
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    // Method to return the value for key, or defaultValue if it is absent
+    public int get(int key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    // Method to map key to value; returns true if key was newly added
+    public boolean put(int key, int value) {
+        int slot = HashMixer.mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size >= resizeAt) {
+            resize(keys.length * 2);
+        }
+        return true;
+    }
+
+    // Method to add delta to the value for key (absent keys start at 0); returns the new value
+    public int addTo(int key, int delta) {
+        int slot = find(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        put(key, delta);
+        return delta;
+    }
+
+    // Method to remove key; returns true if it was present
+    public boolean remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    // Backward-shift deletion: pulls later entries of the same probe run into the hole
+    private void shiftBack(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (!used[slot]) {
+                break;
+            }
+            int home = HashMixer.mix(keys[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        used[hole] = false;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = HashMixer.mix(oldKeys[i]) & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    // Method to remove every entry, keeping the current table size
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    // Method to return the approximate heap footprint of the tables in bytes
+    public long estimatedMemoryBytes() {
+        return 3L * HashMixer.ARRAY_HEADER_BYTES + 9L * keys.length;
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) {
+        IntIntHashMap counts = new IntIntHashMap();
+
+        System.out.println("--- Counting occurrences without boxing ---");
+        int[] data = {5, 3, 5, 0, -7, 5, 3, 0};
+        for (int value : data) {
+            counts.addTo(value, 1);
+        }
+        System.out.println("Distinct values: " + counts.size()); // 4
+        System.out.println("Count of 5: " + counts.get(5, 0));   // 3
+        System.out.println("Count of 0: " + counts.get(0, 0));   // 2
+        System.out.println("Count of 9: " + counts.get(9, 0));   // 0
+
+        System.out.println("\n--- Removing entries ---");
+        System.out.println("remove(3): " + counts.remove(3)); // true
+        System.out.println("remove(3) again: " + counts.remove(3)); // false
+        System.out.println("containsKey(-7): " + counts.containsKey(-7)); // true
+        System.out.println("Size: " + counts.size()); // 3
+    }
+}
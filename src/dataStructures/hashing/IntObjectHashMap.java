@@ -0,0 +1,182 @@
+package dataStructures.hashing;
+
+import java.util.Arrays;
+
+// Open-addressing hash map from primitive int keys to object values. Keys are never boxed.
+// Keys and values live in two parallel arrays; a null value marks an empty slot, so
+// null values cannot be stored. Collisions use linear probing, and remove() shifts the
+// following entries back instead of leaving tombstones, so lookups never slow down
+// after many deletes. The table doubles once it is 3/4 full.
+public class IntObjectHashMap<V> {
+
+    private int[] keys;     // Key of each slot (meaningless where values[slot] == null)
+    private Object[] values; // Value of each slot, or null for an empty slot
+    private int mask;       // keys.length - 1; the table length is always a power of two
+    private int size;       // Number of entries
+    private int resizeAt;   // Grow once size reaches this
+
+    // Constructor for an empty map sized for about 16 entries
+    public IntObjectHashMap() {
+        this(16);
+    }
+
+    // Constructor for an empty map that can hold expectedSize entries without resizing
+    public IntObjectHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative.");
+        }
+        int capacity = HashMixer.tableSizeFor(expectedSize);
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+
+    // Method to return the number of entries
+    public int size() {
+        return size;
+    }
+
+    // Method to check if the map is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Method to return the value for key, or null if it is absent
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = HashMixer.mix(key) & mask;
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    // Method to check if key is present
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    // Method to map key to value; returns the previous value, or null if key was absent
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        int slot = HashMixer.mix(key) & mask;
+        Object existing;
+        while ((existing = values[slot]) != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return (V) existing;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    // Method to remove key; returns the removed value, or null if key was absent
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = HashMixer.mix(key) & mask;
+        Object existing;
+        while ((existing = values[slot]) != null) {
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return (V) existing;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    // Backward-shift deletion: pulls later entries of the same probe run into the hole
+    private void shiftBack(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == null) {
+                break;
+            }
+            int home = HashMixer.mix(keys[slot]) & mask;
+            // The entry may move into the hole only if the hole lies between its home and its slot
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[newCapacity];
+        values = new Object[newCapacity];
+        mask = newCapacity - 1;
+        resizeAt = newCapacity / 4 * 3;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = HashMixer.mix(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // Method to remove every entry, keeping the current table size
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    // Method to return the approximate heap footprint of the two tables in bytes
+    // (array headers plus slots, assuming 4-byte compressed references); values themselves are not counted
+    public long estimatedMemoryBytes() {
+        return HashMixer.ARRAY_HEADER_BYTES + 4L * keys.length
+                + HashMixer.ARRAY_HEADER_BYTES + 4L * values.length;
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        System.out.println("Is map empty? " + map.isEmpty()); // true
+
+        System.out.println("\n--- Putting entries ---");
+        for (int i = 0; i < 20; i++) {
+            map.put(i * 16, "value-" + i); // Keys that would all collide with a naive (key & mask) hash
+        }
+        System.out.println("Size: " + map.size()); // 20
+        System.out.println("get(32): " + map.get(32)); // value-2
+        System.out.println("put(32) again returns the old value: " + map.put(32, "replaced")); // value-2
+        System.out.println("get(32): " + map.get(32)); // replaced
+
+        System.out.println("\n--- Removing entries ---");
+        System.out.println("remove(0): " + map.remove(0)); // value-0
+        System.out.println("remove(0) again: " + map.remove(0)); // null
+        System.out.println("get(304) still found after backward shift: " + map.get(304)); // value-19
+        System.out.println("Size: " + map.size()); // 19
+
+        System.out.println("\n--- Memory ---");
+        IntObjectHashMap<Object> big = new IntObjectHashMap<>();
+        Object marker = new Object();
+        for (int i = 0; i < 1_000_000; i++) {
+            big.put(i, marker);
+        }
+        System.out.println("1,000,000 entries: ~" + big.estimatedMemoryBytes() / big.size() + " bytes per entry");
+    }
+}
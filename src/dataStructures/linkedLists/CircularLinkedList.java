@@ -1,9 +1,34 @@
 package dataStructures.linkedLists;
 
-public class CircularLinkedList {
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.NodePool;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.PoolStats;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException; // For handling empty list scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+public class CircularLinkedList implements IntIterable {
 
     private Node tail; // Points to the last node of the list. tail.next is the head.
     private int size;  // To keep track of the number of elements
+    // Rotation cursor: the node before the current one, so the current node can be unlinked
+    // without a walk. cursorPrev.next is the current node; null only when the list is empty.
+    // Starts on the head (cursorPrev == tail) and keeps pointing at the same node across inserts.
+    private Node cursorPrev;
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+    private final NodePool<Node> pool;        // Deleted nodes kept for reuse by inserts; off by default
 
     // Inner class Node
     private static class Node {
@@ -19,10 +44,32 @@ public class CircularLinkedList {
 
     // Constructor for CircularLinkedList
     public CircularLinkedList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor for CircularLinkedList that reports every mutation to the given listener
+    public CircularLinkedList(OperationListener listener) {
+        this(listener, 0);
+    }
+
+    // Constructor for CircularLinkedList with a listener and a pool that keeps up to poolCapacity
+    // deleted nodes for later inserts (0 turns pooling off)
+    public CircularLinkedList(OperationListener listener, int poolCapacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
+        this.pool = new NodePool<>(poolCapacity, Node::new, (node, data) -> node.data = data, node -> node.next = null);
         tail = null;
+        cursorPrev = null;
         size = 0;
     }
 
+    // Method to return the hit, miss and size counters of the node pool
+    public PoolStats poolStats() {
+        return pool.stats();
+    }
+
     // Method to check if the list is empty
     public boolean isEmpty() {
         return tail == null;
@@ -35,53 +82,67 @@ public class CircularLinkedList {
 
     // Method to insert a new node at the head of the list
     public void insertAtHead(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         if (isEmpty()) {
             tail = newNode;
             tail.next = tail; // Points to itself
+            cursorPrev = tail;
         } else {
             newNode.next = tail.next; // New node points to the current head
             tail.next = newNode;      // Tail's next (which was head) now points to the new node
+            if (cursorPrev == tail) {
+                cursorPrev = newNode; // The cursor stays on the old head
+            }
         }
         size++;
-        System.out.println(data + " inserted at head.");
+        listener.onEvent(Operation.INSERT_HEAD, data, size);
     }
 
     // Method to insert a new node at the tail of the list
     public void insertAtTail(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         if (isEmpty()) {
             tail = newNode;
             tail.next = tail; // Points to itself
+            cursorPrev = tail;
         } else {
             newNode.next = tail.next; // New node's next points to the current head
             tail.next = newNode;      // Current tail's next points to the new node
+            if (cursorPrev == tail) {
+                cursorPrev = newNode; // The cursor stays on the head
+            }
             tail = newNode;           // New node becomes the new tail
         }
         size++;
-        System.out.println(data + " inserted at tail.");
+        listener.onEvent(Operation.INSERT_TAIL, data, size);
     }
 
     // Method to delete the node at the head of the list
     public void deleteAtHead() {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
-        int deletedData = tail.next.data; // Head's data
-        if (tail.next == tail) { // Only one node in the list
+        Node deleted = tail.next; // Head
+        int deletedData = deleted.data;
+        if (deleted == tail) { // Only one node in the list
             tail = null;
+            cursorPrev = null;
         } else {
-            tail.next = tail.next.next; // Tail's next (head) bypasses the old head
+            if (cursorPrev == deleted) {
+                cursorPrev = tail; // The node before the cursor is going away
+            }
+            tail.next = deleted.next; // Tail's next (head) bypasses the old head
         }
+        pool.release(deleted);
         size--;
-        System.out.println(deletedData + " deleted from head.");
+        listener.onEvent(Operation.DELETE_HEAD, deletedData, size);
     }
 
     // Method to delete the first occurrence of a node with the given value
     public void deleteByValue(int data) {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty or value not found.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
 
@@ -93,9 +154,13 @@ public class CircularLinkedList {
         // We need to stop if we've checked all nodes or found the data
         do {
             if (current.data == data) {
+                if (cursorPrev == current) {
+                    cursorPrev = previous; // The node before the cursor is going away
+                }
                 // Case 1: Node to delete is the only node
                 if (size == 1) { // or current == tail && current.next == current
                     tail = null;
+                    cursorPrev = null;
                 }
                 // Case 2: Node to delete is the head (tail.next)
                 else if (current == head) { // current == tail.next
@@ -112,17 +177,89 @@ public class CircularLinkedList {
                 else {
                     previous.next = current.next; // Bypass the current node
                 }
+                pool.release(current);
                 size--;
-                System.out.println(data + " deleted from the list.");
+                listener.onEvent(Operation.DELETE_VALUE, data, size);
                 return;
             }
             previous = current;
             current = current.next;
         } while (current != head); // Iterate until we are back at the head
 
-        System.out.println("Deletion failed: Value " + data + " not found in the list.");
+        listener.onEvent(Operation.NOT_FOUND, data, size);
+    }
+
+
+    // Method to return the data at the rotation cursor
+    public int current() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty. No current element.");
+        }
+        return cursorPrev.next.data;
+    }
+
+    // Method to move the rotation cursor k nodes forward around the ring (k % size steps).
+    // Only the cursor moves; no node is unlinked or allocated.
+    public void advance(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Cannot advance by a negative count.");
+        }
+        if (isEmpty()) {
+            return;
+        }
+        Node prev = cursorPrev;
+        for (int steps = k % size; steps > 0; steps--) {
+            prev = prev.next;
+        }
+        cursorPrev = prev;
+    }
+
+    // Method to move the rotation cursor back to the head
+    public void resetCursor() {
+        cursorPrev = tail;
     }
 
+    // Method to unlink the node at the rotation cursor and return its data.
+    // The cursor moves on to the following node.
+    public int removeCurrent() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty. Cannot remove current element.");
+        }
+        Node current = cursorPrev.next;
+        if (size == 1) {
+            tail = null;
+            cursorPrev = null;
+        } else {
+            cursorPrev.next = current.next;
+            if (current == tail) {
+                tail = cursorPrev;
+            }
+        }
+        int deletedData = current.data;
+        pool.release(current);
+        size--;
+        listener.onEvent(Operation.DELETE_AT_POSITION, deletedData, size);
+        return deletedData;
+    }
+
+    // Method to insert a new node just before the rotation cursor, so it is visited last in
+    // the current rotation. The cursor stays on the same node. When the cursor is on the head
+    // this is the same as insertAtTail.
+    public void insertBeforeCurrent(int data) {
+        if (isEmpty()) {
+            insertAtTail(data);
+            return;
+        }
+        Node newNode = pool.acquire(data);
+        newNode.next = cursorPrev.next;
+        cursorPrev.next = newNode;
+        if (cursorPrev == tail) {
+            tail = newNode;
+        }
+        cursorPrev = newNode;
+        size++;
+        listener.onEvent(Operation.INSERT_AT_POSITION, data, size);
+    }
 
     // Method to search for a value in the list
     public boolean search(int data) {
@@ -154,9 +291,96 @@ public class CircularLinkedList {
         System.out.println("(head again: " + current.data + ")");
     }
 
+    // Method to return an iterator over the elements from head to tail, once around the ring
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = tail == null ? null : tail.next;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                remaining--;
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from head to tail, once around the ring, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        if (isEmpty()) {
+            return;
+        }
+        Node current = tail == null ? null : tail.next;
+        for (int i = 0; i < size; i++) {
+            action.accept(current.data);
+            current = current.next;
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from head to tail, once around the ring
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the list, from head once around the ring, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The position of the rotation cursor is saved too.
+    public void snapshot(Path path) throws IOException {
+        int cursorPosition = 0;
+        if (!isEmpty()) {
+            for (Node current = tail.next; current != cursorPrev.next; current = current.next) {
+                cursorPosition++;
+            }
+        }
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.CIRCULAR_LINKED_LIST, size,
+                cursorPosition)) {
+            if (!isEmpty()) {
+                Node current = tail.next;
+                for (int i = 0; i < size; i++) {
+                    writer.writeInt(current.data);
+                    current = current.next;
+                }
+            }
+        }
+    }
+
+    // Method to rebuild a list, rotation cursor included, from a snapshot written by snapshot()
+    public static CircularLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.CIRCULAR_LINKED_LIST)) {
+            CircularLinkedList list = new CircularLinkedList();
+            if (reader.size() == 0) {
+                return list;
+            }
+            Node head = new Node(reader.readInt());
+            Node last = head;
+            for (int i = 1; i < reader.size(); i++) {
+                last.next = new Node(reader.readInt());
+                last = last.next;
+            }
+            last.next = head; // Close the ring
+            list.tail = last;
+            list.size = reader.size();
+            list.cursorPrev = last;
+            list.advance(reader.state(0));
+            return list;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
-        CircularLinkedList list = new CircularLinkedList();
+    public static void main(String[] args) throws IOException {
+        CircularLinkedList list = new CircularLinkedList(new ConsoleListener("CircularLinkedList"));
 
         System.out.println("Is list empty? " + list.isEmpty() + ", Size: " + list.getSize());
         list.display();
@@ -244,5 +468,72 @@ public class CircularLinkedList {
         list.deleteByValue(200); // delete tail (becomes only node) -> empty
         list.display();
         System.out.println("Is list empty? " + list.isEmpty() + ", Size: " + list.getSize());
+
+        System.out.println("\n--- Rotation cursor ---");
+        for (int i = 1; i <= 5; i++) {
+            list.insertAtTail(i); // 1 -> 2 -> 3 -> 4 -> 5
+        }
+        System.out.println("Current: " + list.current()); // 1 (the cursor starts on the head)
+        list.advance(2);
+        System.out.println("After advance(2): " + list.current()); // 3
+        list.insertBeforeCurrent(25); // 1 -> 2 -> 25 -> 3 -> 4 -> 5
+        System.out.println("removeCurrent(): " + list.removeCurrent()); // 3; the cursor moves to 4
+        list.advance(7);              // 7 % 5 = 2 steps: 4 -> 5 -> 1
+        System.out.println("After advance(7): " + list.current()); // 1
+        list.display();               // 1 -> 2 -> 25 -> 4 -> 5
+        while (!list.isEmpty()) {
+            list.deleteAtHead();
+        }
+
+        System.out.println("\n--- Josephus problem: 41 people, every 3rd is removed ---");
+        CircularLinkedList circle = new CircularLinkedList();
+        for (int i = 1; i <= 41; i++) {
+            circle.insertAtTail(i);
+        }
+        while (circle.getSize() > 1) {
+            circle.advance(2);     // Skip two people...
+            circle.removeCurrent(); // ...and remove the third
+        }
+        System.out.println("Survivor: " + circle.current()); // 31
+
+        System.out.println("\n--- Iteration once around the ring ---");
+        CircularLinkedList iterable = new CircularLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            iterable.insertAtTail(i);
+        }
+        iterable.advance(2);
+        System.out.println("current() after advance(2): " + iterable.current()); // 3
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5: from head, not from the cursor
+        System.out.println();
+        System.out.println("stream().count(): " + iterable.stream().count()); // 5, each node visited once
+
+        System.out.println("\n--- Node pooling ---");
+        CircularLinkedList pooled = new CircularLinkedList(OperationListener.NONE, 16);
+        for (int i = 0; i < 8; i++) {
+            pooled.insertAtTail(i);
+        }
+        for (int i = 8; i < 100_000; i++) {
+            pooled.advance(3);
+            pooled.removeCurrent();         // Retire one task...
+            pooled.insertBeforeCurrent(i);  // ...and admit a new one on the recycled node
+        }
+        System.out.println("Pool hits: " + pooled.poolStats().hits() + ", misses: " + pooled.poolStats().misses()); // 99992, 8
+        System.out.println("Size: " + pooled.getSize() + ", pooled nodes: " + pooled.poolStats().size()); // 8, 0
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("CircularLinkedList", ".snap");
+        CircularLinkedList saved = new CircularLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            saved.insertAtTail(i * 10);
+        }
+        saved.advance(2);
+        saved.snapshot(snapshotFile);
+        CircularLinkedList restored = CircularLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored cursor: " + restored.current()); // 30
+        Files.delete(snapshotFile);
     }
 }
@@ -0,0 +1,473 @@
+package dataStructures.linkedLists;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException; // For handling empty list scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// Array-backed counterpart of CircularLinkedList with the same API, rotation cursor included.
+// Nodes are not objects: node i is data[i] and next[i], two parallel int arrays, and links are
+// node indices. Deleted nodes go on a free-list (threaded through next[]) and are reused by
+// later inserts, so a ring with steady churn allocates nothing once it has reached its peak
+// size, and search() and display() walk two int arrays instead of chasing object pointers.
+// When the arrays are full they are copied into arrays twice the size.
+public class CompactCircularLinkedList implements IntIterable {
+
+    private static final int NIL = -1; // Index used as the null link
+
+    private int[] data;        // data[i] is the value of node i
+    private int[] next;        // next[i] is the node after node i (or the next free slot)
+    private int used;          // Slots below this index have been handed out at least once
+    private int freeHead;      // First slot of the free-list, or NIL
+    private int tail;          // Last node of the ring, or NIL. next[tail] is the head.
+    private int cursorPrev;    // Node before the rotation cursor, or NIL when the list is empty
+    private int size;          // To keep track of the number of elements
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor for CompactCircularLinkedList with room for 16 nodes before the first resize
+    public CompactCircularLinkedList() {
+        this(16, OperationListener.NONE);
+    }
+
+    // Constructor for CompactCircularLinkedList with room for initialCapacity nodes
+    public CompactCircularLinkedList(int initialCapacity) {
+        this(initialCapacity, OperationListener.NONE);
+    }
+
+    // Constructor for CompactCircularLinkedList that reports every mutation to the given listener
+    public CompactCircularLinkedList(int initialCapacity, OperationListener listener) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.data = new int[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.used = 0;
+        this.freeHead = NIL;
+        this.tail = NIL;
+        this.cursorPrev = NIL;
+        this.size = 0;
+        this.listener = listener;
+    }
+
+    // Takes a slot from the free-list (or the never-used end of the arrays) and stores value in it
+    private int allocate(int value) {
+        int node;
+        if (freeHead != NIL) {
+            node = freeHead;
+            freeHead = next[node];
+        } else {
+            if (used == data.length) {
+                int newCapacity = data.length * 2;
+                data = Arrays.copyOf(data, newCapacity);
+                next = Arrays.copyOf(next, newCapacity);
+            }
+            node = used++;
+        }
+        data[node] = value;
+        return node;
+    }
+
+    // Puts a slot back on the free-list
+    private void release(int node) {
+        next[node] = freeHead;
+        freeHead = node;
+    }
+
+    // Method to check if the list is empty
+    public boolean isEmpty() {
+        return tail == NIL;
+    }
+
+    // Method to get the size of the list
+    public int getSize() {
+        return size;
+    }
+
+    // Method to return the number of node slots currently reserved
+    public int capacity() {
+        return data.length;
+    }
+
+    // Method to insert a new node at the head of the list
+    public void insertAtHead(int value) {
+        int newNode = allocate(value);
+        if (isEmpty()) {
+            tail = newNode;
+            next[tail] = tail; // Points to itself
+            cursorPrev = tail;
+        } else {
+            next[newNode] = next[tail]; // New node points to the current head
+            next[tail] = newNode;       // Tail's next (which was head) now points to the new node
+            if (cursorPrev == tail) {
+                cursorPrev = newNode;   // The cursor stays on the old head
+            }
+        }
+        size++;
+        listener.onEvent(Operation.INSERT_HEAD, value, size);
+    }
+
+    // Method to insert a new node at the tail of the list
+    public void insertAtTail(int value) {
+        int newNode = allocate(value);
+        if (isEmpty()) {
+            tail = newNode;
+            next[tail] = tail; // Points to itself
+            cursorPrev = tail;
+        } else {
+            next[newNode] = next[tail]; // New node's next points to the current head
+            next[tail] = newNode;       // Current tail's next points to the new node
+            if (cursorPrev == tail) {
+                cursorPrev = newNode;   // The cursor stays on the head
+            }
+            tail = newNode;             // New node becomes the new tail
+        }
+        size++;
+        listener.onEvent(Operation.INSERT_TAIL, value, size);
+    }
+
+    // Method to delete the node at the head of the list
+    public void deleteAtHead() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        int head = next[tail];
+        int deletedData = data[head];
+        if (head == tail) { // Only one node in the list
+            tail = NIL;
+            cursorPrev = NIL;
+        } else {
+            if (cursorPrev == head) {
+                cursorPrev = tail; // The node before the cursor is going away
+            }
+            next[tail] = next[head]; // Tail's next (head) bypasses the old head
+        }
+        release(head);
+        size--;
+        listener.onEvent(Operation.DELETE_HEAD, deletedData, size);
+    }
+
+    // Method to delete the first occurrence of a node with the given value
+    public void deleteByValue(int value) {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+
+        int head = next[tail];
+        int previous = tail; // Previous to head is tail
+        int current = head;
+        do {
+            if (data[current] == value) {
+                unlink(previous, current);
+                listener.onEvent(Operation.DELETE_VALUE, value, size);
+                return;
+            }
+            previous = current;
+            current = next[current];
+        } while (current != head); // Iterate until we are back at the head
+
+        listener.onEvent(Operation.NOT_FOUND, value, size);
+    }
+
+    // Removes node (whose predecessor is previous) from the ring and frees its slot
+    private void unlink(int previous, int node) {
+        if (size == 1) {
+            tail = NIL;
+            cursorPrev = NIL;
+        } else {
+            next[previous] = next[node];
+            if (node == tail) {
+                tail = previous;
+            }
+            if (cursorPrev == node) {
+                cursorPrev = previous; // The node before the cursor is going away
+            }
+        }
+        release(node);
+        size--;
+    }
+
+    // Method to return the data at the rotation cursor
+    public int current() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty. No current element.");
+        }
+        return data[next[cursorPrev]];
+    }
+
+    // Method to move the rotation cursor k nodes forward around the ring (k % size steps)
+    public void advance(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Cannot advance by a negative count.");
+        }
+        if (isEmpty()) {
+            return;
+        }
+        int prev = cursorPrev;
+        for (int steps = k % size; steps > 0; steps--) {
+            prev = next[prev];
+        }
+        cursorPrev = prev;
+    }
+
+    // Method to move the rotation cursor back to the head
+    public void resetCursor() {
+        cursorPrev = tail;
+    }
+
+    // Method to unlink the node at the rotation cursor and return its data.
+    // The cursor moves on to the following node.
+    public int removeCurrent() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty. Cannot remove current element.");
+        }
+        int current = next[cursorPrev];
+        int deletedData = data[current];
+        unlink(cursorPrev, current);
+        listener.onEvent(Operation.DELETE_AT_POSITION, deletedData, size);
+        return deletedData;
+    }
+
+    // Method to insert a new node just before the rotation cursor, so it is visited last in
+    // the current rotation. The cursor stays on the same node.
+    public void insertBeforeCurrent(int value) {
+        if (isEmpty()) {
+            insertAtTail(value);
+            return;
+        }
+        int newNode = allocate(value);
+        next[newNode] = next[cursorPrev];
+        next[cursorPrev] = newNode;
+        if (cursorPrev == tail) {
+            tail = newNode;
+        }
+        cursorPrev = newNode;
+        size++;
+        listener.onEvent(Operation.INSERT_AT_POSITION, value, size);
+    }
+
+    // Method to search for a value in the list
+    public boolean search(int value) {
+        if (isEmpty()) {
+            return false;
+        }
+        int[] data = this.data;
+        int[] next = this.next;
+        int head = next[tail];
+        int current = head;
+        do {
+            if (data[current] == value) {
+                return true;
+            }
+            current = next[current];
+        } while (current != head); // Iterate until we are back at the head
+        return false;
+    }
+
+    // Method to display the elements of the list
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("List is empty.");
+            return;
+        }
+        System.out.print("List (tail -> " + data[tail] + "): head -> ");
+        int head = next[tail];
+        int current = head;
+        do {
+            System.out.print(data[current] + " -> ");
+            current = next[current];
+        } while (current != head); // Iterate until we are back at the head
+        System.out.println("(head again: " + data[head] + ")");
+    }
+
+    // Method to return an iterator over the elements from head to tail, once around the ring
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int current = tail == NIL ? NIL : next[tail];
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int value = data[current];
+                current = next[current];
+                remaining--;
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from head to tail, once around the ring, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        if (isEmpty()) {
+            return;
+        }
+        int current = tail == NIL ? NIL : next[tail];
+        for (int i = 0; i < size; i++) {
+            action.accept(data[current]);
+            current = next[current];
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from head to tail, once around the ring
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the list, from head once around the ring, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The capacity and the cursor position are saved too;
+    // free slots are not, so a restored list is compacted into slots 0 .. size-1.
+    public void snapshot(Path path) throws IOException {
+        int cursorPosition = 0;
+        if (!isEmpty()) {
+            for (int current = next[tail]; current != next[cursorPrev]; current = next[current]) {
+                cursorPosition++;
+            }
+        }
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.COMPACT_CIRCULAR_LINKED_LIST, size,
+                data.length, cursorPosition)) {
+            if (!isEmpty()) {
+                int current = next[tail];
+                for (int i = 0; i < size; i++) {
+                    writer.writeInt(data[current]);
+                    current = next[current];
+                }
+            }
+        }
+    }
+
+    // Method to rebuild a list from a snapshot written by snapshot().
+    // The values are read straight into the data array and node i is linked to node i + 1.
+    public static CompactCircularLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.COMPACT_CIRCULAR_LINKED_LIST)) {
+            int size = reader.size();
+            int capacity = Math.max(Math.max(reader.state(0), size), 1);
+            CompactCircularLinkedList list = new CompactCircularLinkedList(capacity);
+            if (size == 0) {
+                return list;
+            }
+            reader.read(list.data, 0, size);
+            for (int i = 0; i < size - 1; i++) {
+                list.next[i] = i + 1;
+            }
+            list.next[size - 1] = 0; // Close the ring
+            list.used = size;
+            list.tail = size - 1;
+            list.size = size;
+            list.cursorPrev = list.tail;
+            list.advance(reader.state(1));
+            return list;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        CompactCircularLinkedList list = new CompactCircularLinkedList(2, new ConsoleListener("CompactCircularLinkedList"));
+
+        System.out.println("Is list empty? " + list.isEmpty() + ", Size: " + list.getSize());
+        list.display();
+
+        System.out.println("\n--- Inserting elements ---");
+        list.insertAtHead(10); // List: 10
+        list.insertAtTail(20); // List: 10 -> 20
+        list.insertAtHead(5);  // List: 5 -> 10 -> 20 (arrays grow from 2 to 4 slots)
+        list.insertAtTail(30); // List: 5 -> 10 -> 20 -> 30
+        list.display();
+        System.out.println("Size: " + list.getSize() + ", Capacity: " + list.capacity()); // 4, 4
+
+        System.out.println("\n--- Searching elements ---");
+        System.out.println("Search for 20: " + list.search(20)); // true
+        System.out.println("Search for 99 (not in list): " + list.search(99)); // false
+
+        System.out.println("\n--- Deleting elements ---");
+        list.deleteAtHead();     // List: 10 -> 20 -> 30
+        list.deleteByValue(30);  // List: 10 -> 20 (tail is 20)
+        list.deleteByValue(99);  // Not found
+        list.display();
+
+        System.out.println("\n--- Freed slots are reused ---");
+        list.insertAtTail(40);
+        list.insertAtTail(50);
+        list.display(); // 10 -> 20 -> 40 -> 50
+        System.out.println("Size: " + list.getSize() + ", Capacity: " + list.capacity()); // 4, 4 (no growth)
+
+        System.out.println("\n--- Rotation cursor ---");
+        list.advance(2);
+        System.out.println("After advance(2): " + list.current()); // 40
+        System.out.println("removeCurrent(): " + list.removeCurrent()); // 40; the cursor moves to 50
+        list.insertBeforeCurrent(45); // 10 -> 20 -> 45 -> 50
+        list.display();
+
+        System.out.println("\n--- Deleting remaining elements to empty the list ---");
+        while (!list.isEmpty()) {
+            list.deleteAtHead();
+        }
+        list.display();
+        list.deleteAtHead(); // Attempt delete from empty
+
+        System.out.println("\n--- Churn at constant size ---");
+        CompactCircularLinkedList ring = new CompactCircularLinkedList(1 << 20);
+        for (int i = 0; i < 1 << 20; i++) {
+            ring.insertAtTail(i);
+        }
+        for (int i = 0; i < 10_000_000; i++) {
+            ring.deleteAtHead();
+            ring.insertAtTail(i);
+        }
+        System.out.println("Size: " + ring.getSize() + ", Capacity: " + ring.capacity()); // 1048576, 1048576
+
+        System.out.println("\n--- Iteration once around the ring ---");
+        CompactCircularLinkedList iterable = new CompactCircularLinkedList();
+        for (int i = 0; i <= 4; i++) {
+            iterable.insertAtTail(i);
+        }
+        iterable.deleteAtHead();   // Frees a slot...
+        iterable.insertAtTail(5);  // ...that the new tail reuses, so slot order is no longer ring order
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5, following the next indices
+        System.out.println();
+        System.out.println("stream().max(): " + iterable.stream().max().getAsInt()); // 5
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("CompactCircularLinkedList", ".snap");
+        CompactCircularLinkedList saved = new CompactCircularLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            saved.insertAtTail(i * 10);
+        }
+        saved.advance(2);
+        saved.snapshot(snapshotFile);
+        CompactCircularLinkedList restored = CompactCircularLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored cursor: " + restored.current()); // 30
+        Files.delete(snapshotFile);
+    }
+}
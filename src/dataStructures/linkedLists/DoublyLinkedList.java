@@ -1,10 +1,56 @@
 package dataStructures.linkedLists;
 
-public class DoublyLinkedList {
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.NodePool;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.PoolStats;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+import dataStructures.hashing.IntIntHashMap;
+import dataStructures.hashing.IntObjectHashMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException; // For handling empty list scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+public class DoublyLinkedList implements IntIterable {
 
     private Node head; // Head of the list
     private Node tail; // Tail of the list
     private int size;  // To keep track of the number of elements
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+    private final NodePool<Node> pool;        // Deleted nodes kept for reuse by inserts; off by default
+
+    // Optional value index, null when disabled. index maps each value to the node holding its
+    // first occurrence (closest to head); duplicateCounts holds the occurrence count of the
+    // values that appear more than once, so a list of unique values pays nothing for it.
+    private final IntObjectHashMap<Node> index;
+    private final IntIntHashMap duplicateCounts;
+
+    // Finger: the node reached by the last positional access and its position, so that a run of
+    // accesses at i, i+1, i+2, ... moves one link each instead of walking from an end.
+    // finger is null when unknown; mutations shift fingerIndex or clear the finger.
+    private Node finger;
+    private int fingerIndex;
+
+    // Parallel aggregates: segmentStarts[k] is the node at position k * segmentLength. It is
+    // built on first use and reused until a structural change bumps modCount.
+    private int modCount;           // Number of structural changes (inserts, deletes, relinks)
+    private Node[] segmentStarts;   // null until the first parallel aggregate
+    private int segmentLength;
+    private int segmentsModCount;   // modCount when segmentStarts was built
 
     // Inner class Node
     private static class Node {
@@ -22,11 +68,50 @@ public class DoublyLinkedList {
 
     // Constructor for DoublyLinkedList
     public DoublyLinkedList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor for DoublyLinkedList that reports every mutation to the given listener
+    public DoublyLinkedList(OperationListener listener) {
+        this(listener, false);
+    }
+
+    // Constructor for DoublyLinkedList with an optional value index.
+    // When indexed is true, search() and deleteByValue() are O(1) instead of a scan from head.
+    public DoublyLinkedList(boolean indexed) {
+        this(OperationListener.NONE, indexed);
+    }
+
+    // Constructor for DoublyLinkedList with a listener and an optional value index
+    public DoublyLinkedList(OperationListener listener, boolean indexed) {
+        this(listener, indexed, 0);
+    }
+
+    // Constructor for DoublyLinkedList with a listener, an optional value index and a pool that
+    // keeps up to poolCapacity deleted nodes for later inserts (0 turns pooling off)
+    public DoublyLinkedList(OperationListener listener, boolean indexed, int poolCapacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
+        this.pool = new NodePool<>(poolCapacity, Node::new, (node, data) -> node.data = data, node -> {
+            node.next = null;
+            node.prev = null;
+        });
+        this.index = indexed ? new IntObjectHashMap<>() : null;
+        this.duplicateCounts = indexed ? new IntIntHashMap() : null;
+        finger = null;
+        fingerIndex = 0;
         head = null;
         tail = null;
         size = 0;
     }
 
+    // Method to return the hit, miss and size counters of the node pool
+    public PoolStats poolStats() {
+        return pool.stats();
+    }
+
     // Method to check if the list is empty
     public boolean isEmpty() {
         return size == 0; // or head == null
@@ -37,9 +122,86 @@ public class DoublyLinkedList {
         return size;
     }
 
+    // Method to check if the list keeps a value index
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    // Method to return the approximate heap bytes used by the value index (0 when not indexed)
+    public long indexMemoryBytes() {
+        return index == null ? 0 : index.estimatedMemoryBytes() + duplicateCounts.estimatedMemoryBytes();
+    }
+
+    // Records a node that was just linked in. precedesFirst tells whether it now comes before
+    // the value's current first occurrence (always true at head, never true at tail).
+    private void indexAdd(Node node, boolean precedesFirst) {
+        Node first = index.get(node.data);
+        if (first == null) {
+            index.put(node.data, node);
+            return;
+        }
+        duplicateCounts.put(node.data, duplicateCounts.get(node.data, 1) + 1);
+        if (precedesFirst) {
+            index.put(node.data, node);
+        }
+    }
+
+    // Forgets a node that is about to be unlinked (its next pointer must still be valid)
+    private void indexRemove(Node node) {
+        int count = duplicateCounts.get(node.data, 1);
+        if (count == 1) {
+            index.remove(node.data);
+            return;
+        }
+        if (count == 2) {
+            duplicateCounts.remove(node.data);
+        } else {
+            duplicateCounts.put(node.data, count - 1);
+        }
+        if (index.get(node.data) == node) {
+            // The first occurrence goes away: the next one is further towards tail.
+            // Only lists with duplicate values ever pay for this scan.
+            Node next = node.next;
+            while (next.data != node.data) {
+                next = next.next;
+            }
+            index.put(node.data, next);
+        }
+    }
+
+    // Returns the node at position (0 <= position < size), walking from head, tail or the
+    // finger, whichever is closest, and leaves the finger on it
+    private Node nodeAt(int position) {
+        Node current;
+        int distanceFromTail = size - 1 - position;
+        int distanceFromFinger = finger == null ? Integer.MAX_VALUE : Math.abs(position - fingerIndex);
+        if (distanceFromFinger <= position && distanceFromFinger <= distanceFromTail) {
+            current = finger;
+            for (int i = fingerIndex; i < position; i++) {
+                current = current.next;
+            }
+            for (int i = fingerIndex; i > position; i--) {
+                current = current.prev;
+            }
+        } else if (position <= distanceFromTail) {
+            current = head;
+            for (int i = 0; i < position; i++) {
+                current = current.next;
+            }
+        } else {
+            current = tail;
+            for (int i = 0; i < distanceFromTail; i++) {
+                current = current.prev;
+            }
+        }
+        finger = current;
+        fingerIndex = position;
+        return current;
+    }
+
     // Method to insert a new node at the head of the list
     public void insertAtHead(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         if (isEmpty()) {
             head = newNode;
             tail = newNode;
@@ -49,12 +211,17 @@ public class DoublyLinkedList {
             head = newNode;
         }
         size++;
-        System.out.println(data + " inserted at head.");
+        modCount++;
+        fingerIndex++; // Everything after the new head shifted one position
+        if (index != null) {
+            indexAdd(newNode, true);
+        }
+        listener.onEvent(Operation.INSERT_HEAD, data, size);
     }
 
     // Method to insert a new node at the tail of the list
     public void insertAtTail(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         if (isEmpty()) {
             head = newNode;
             tail = newNode;
@@ -64,13 +231,17 @@ public class DoublyLinkedList {
             tail = newNode;
         }
         size++;
-        System.out.println(data + " inserted at tail.");
+        modCount++;
+        if (index != null) {
+            indexAdd(newNode, false);
+        }
+        listener.onEvent(Operation.INSERT_TAIL, data, size);
     }
 
     // Method to insert a new node at a specific position (0-indexed)
     public void insertAtPosition(int data, int position) {
         if (position < 0 || position > size) {
-            System.out.println("Invalid position: " + position + ". Valid positions are 0 to " + size + ".");
+            listener.onEvent(Operation.INVALID_POSITION, position, size);
             return;
         }
         if (position == 0) {
@@ -82,11 +253,21 @@ public class DoublyLinkedList {
             return;
         }
 
-        Node newNode = new Node(data);
-        Node current = head;
-        // Traverse to the node currently at the target position
-        for (int i = 0; i < position; i++) {
-            current = current.next;
+        Node newNode = pool.acquire(data);
+        Node current;
+        // When the value is already indexed, the new node becomes its first occurrence only if
+        // it lands before the current one, which a walk from head can tell on the way
+        Node first = index != null ? index.get(data) : null;
+        boolean passedFirst = false;
+        if (first == null) {
+            // Traverse from the closest of head, tail and finger to the node currently at the target position
+            current = nodeAt(position);
+        } else {
+            current = head;
+            for (int i = 0; i < position; i++) {
+                passedFirst |= current == first;
+                current = current.next;
+            }
         }
 
         // Insert newNode before current
@@ -95,80 +276,205 @@ public class DoublyLinkedList {
         current.prev.next = newNode;
         current.prev = newNode;
         size++;
-        System.out.println(data + " inserted at position " + position + ".");
+        modCount++;
+        // Leave the finger on the new node so the next insert at position + 1 is O(1)
+        finger = newNode;
+        fingerIndex = position;
+        if (index != null) {
+            indexAdd(newNode, !passedFirst);
+        }
+        listener.onEvent(Operation.INSERT_AT_POSITION, data, size);
     }
 
     // Method to delete the node at the head of the list
     public void deleteAtHead() {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
-        int deletedData = head.data;
+        Node deleted = head;
+        int deletedData = deleted.data;
+        if (index != null) {
+            indexRemove(deleted);
+        }
+        if (finger == deleted) {
+            finger = null;
+        } else {
+            fingerIndex--;
+        }
         if (size == 1) { // Only one node
             head = null;
             tail = null;
         } else {
-            head = head.next;
+            head = deleted.next;
             head.prev = null;
         }
+        pool.release(deleted);
         size--;
-        System.out.println(deletedData + " deleted from head.");
+        modCount++;
+        listener.onEvent(Operation.DELETE_HEAD, deletedData, size);
     }
 
     // Method to delete the node at the tail of the list
     public void deleteAtTail() {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
-        int deletedData = tail.data;
+        Node deleted = tail;
+        int deletedData = deleted.data;
+        if (index != null) {
+            indexRemove(deleted);
+        }
+        if (finger == deleted) {
+            finger = null;
+        }
         if (size == 1) { // Only one node
             head = null;
             tail = null;
         } else {
-            tail = tail.prev;
+            tail = deleted.prev;
             tail.next = null;
         }
+        pool.release(deleted);
         size--;
-        System.out.println(deletedData + " deleted from tail.");
+        modCount++;
+        listener.onEvent(Operation.DELETE_TAIL, deletedData, size);
     }
 
     // Method to delete the first occurrence of a node with the given value
     public void deleteByValue(int data) {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
 
-        Node current = head;
-        // Search for the node
-        while (current != null && current.data != data) {
-            current = current.next;
+        Node current;
+        if (index != null) {
+            current = index.get(data); // First occurrence, found without a scan
+        } else {
+            current = head;
+            // Search for the node
+            while (current != null && current.data != data) {
+                current = current.next;
+            }
         }
 
         // If value not found
         if (current == null) {
-            System.out.println("Deletion failed: Value " + data + " not found in the list.");
+            listener.onEvent(Operation.NOT_FOUND, data, size);
             return;
         }
 
         // If node to be deleted is head
         if (current == head) {
             deleteAtHead();
-            return; // deleteAtHead already prints message and decrements size
+            return; // deleteAtHead already notifies the listener and decrements size
         }
         // If node to be deleted is tail
         if (current == tail) {
             deleteAtTail();
-            return; // deleteAtTail already prints message and decrements size
+            return; // deleteAtTail already notifies the listener and decrements size
         }
 
         // Node is in the middle
+        if (index != null) {
+            indexRemove(current);
+        }
         current.prev.next = current.next;
         current.next.prev = current.prev;
+        pool.release(current);
         size--;
-        System.out.println(data + " deleted from the list.");
+        modCount++;
+        finger = null; // The position of current is unknown, so the finger may have shifted
+        listener.onEvent(Operation.DELETE_VALUE, data, size);
+    }
+
+    // Method to return the data at the head of the list without removing it
+    public int peekHead() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty. Cannot peek.");
+        }
+        return head.data;
+    }
+
+    // Method to return the data at the tail of the list without removing it
+    public int peekTail() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty. Cannot peek.");
+        }
+        return tail.data;
+    }
+
+    // Method to return the data at position (0-indexed)
+    public int get(int position) {
+        checkPosition(position);
+        return nodeAt(position).data;
+    }
+
+    // Method to replace the data at position (0-indexed); returns the data it replaced
+    public int set(int position, int data) {
+        checkPosition(position);
+        Node node = nodeAt(position);
+        int oldData = node.data;
+        if (oldData != data && index != null) {
+            // Re-index as a removal of the old value and an insertion of the new one in place
+            indexRemove(node);
+            node.data = data;
+            Node first = index.get(data);
+            boolean precedesFirst = true;
+            if (first != null) {
+                // Duplicate value: it becomes the first occurrence only if nothing before it holds data
+                for (Node current = node.prev; current != null; current = current.prev) {
+                    if (current == first) {
+                        precedesFirst = false;
+                        break;
+                    }
+                }
+            }
+            indexAdd(node, precedesFirst);
+        } else {
+            node.data = data;
+        }
+        listener.onEvent(Operation.SET, data, size);
+        return oldData;
+    }
+
+    // Method to delete the node at position (0-indexed); returns its data
+    public int removeAt(int position) {
+        checkPosition(position);
+        if (position == 0) {
+            int deletedData = head.data;
+            deleteAtHead();
+            return deletedData;
+        }
+        if (position == size - 1) {
+            int deletedData = tail.data;
+            deleteAtTail();
+            return deletedData;
+        }
+
+        // Node is in the middle
+        Node current = nodeAt(position);
+        if (index != null) {
+            indexRemove(current);
+        }
+        current.prev.next = current.next;
+        current.next.prev = current.prev;
+        int deletedData = current.data;
+        // The successor now sits at position, so a run of removeAt(i) calls stays O(1)
+        finger = current.next;
+        pool.release(current);
+        size--;
+        modCount++;
+        listener.onEvent(Operation.DELETE_AT_POSITION, deletedData, size);
+        return deletedData;
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of bounds for size " + size + ".");
+        }
     }
 
     // Method to search for a value in the list
@@ -176,6 +482,9 @@ public class DoublyLinkedList {
         if (isEmpty()) {
             return false;
         }
+        if (index != null) {
+            return index.containsKey(data);
+        }
         Node current = head;
         while (current != null) {
             if (current.data == data) {
@@ -216,9 +525,206 @@ public class DoublyLinkedList {
         System.out.println("head");
     }
 
+    // Method to return an iterator over the elements from head to tail
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from head to tail, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (Node current = head; current != null; current = current.next) {
+            action.accept(current.data);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from head to tail
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Returns the first node of every segment, rebuilding the cache if the list has changed.
+    // The rebuild still visits every node, O(n) split over two threads, so it is paid by the
+    // first parallel aggregate after each structural change.
+    private Node[] segmentStarts(ForkJoinPool pool) {
+        if (segmentStarts == null || segmentsModCount != modCount) {
+            int length = SegmentReducer.segmentLength(size);
+            Node[] starts = new Node[SegmentReducer.segmentCount(size)];
+            // Walk from both ends at once: this thread records the first half of the starts
+            // from head while a pool task records the second half from tail
+            int half = starts.length / 2;
+            ForkJoinTask<?> fromTail = pool.submit(() -> {
+                Node current = tail;
+                for (int position = size - 1; position >= half * length; position--) {
+                    if (position % length == 0) {
+                        starts[position / length] = current;
+                    }
+                    current = current.prev;
+                }
+            });
+            Node current = head;
+            for (int position = 0; position < half * length; position++) {
+                if (position % length == 0) {
+                    starts[position / length] = current;
+                }
+                current = current.next;
+            }
+            fromTail.join();
+            segmentStarts = starts;
+            segmentLength = length;
+            segmentsModCount = modCount;
+        }
+        return segmentStarts;
+    }
+
+    // Method to return the sum of all elements, computed in parallel on the common pool
+    public long parallelSum() {
+        return parallelSum(ForkJoinPool.commonPool());
+    }
+
+    // Method to return the sum of all elements, computed in parallel on pool
+    public long parallelSum(ForkJoinPool pool) {
+        Node[] starts = segmentStarts(pool);
+        int length = segmentLength;
+        return SegmentReducer.reduce(pool, starts.length, 0, segment -> {
+            long sum = 0;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                sum += current.data;
+                current = current.next;
+            }
+            return sum;
+        }, Long::sum);
+    }
+
+    // Method to return the smallest element, computed in parallel on the common pool
+    public int parallelMin() {
+        return parallelMin(ForkJoinPool.commonPool());
+    }
+
+    // Method to return the smallest element, computed in parallel on pool
+    public int parallelMin(ForkJoinPool pool) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        Node[] starts = segmentStarts(pool);
+        int length = segmentLength;
+        return (int) SegmentReducer.reduce(pool, starts.length, Integer.MAX_VALUE, segment -> {
+            int min = Integer.MAX_VALUE;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                min = Math.min(min, current.data);
+                current = current.next;
+            }
+            return min;
+        }, Math::min);
+    }
+
+    // Method to return the largest element, computed in parallel on the common pool
+    public int parallelMax() {
+        return parallelMax(ForkJoinPool.commonPool());
+    }
+
+    // Method to return the largest element, computed in parallel on pool
+    public int parallelMax(ForkJoinPool pool) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        Node[] starts = segmentStarts(pool);
+        int length = segmentLength;
+        return (int) SegmentReducer.reduce(pool, starts.length, Integer.MIN_VALUE, segment -> {
+            int max = Integer.MIN_VALUE;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                max = Math.max(max, current.data);
+                current = current.next;
+            }
+            return max;
+        }, Math::max);
+    }
+
+    // Method to count the elements matching predicate, in parallel on the common pool
+    public int parallelCountIf(IntPredicate predicate) {
+        return parallelCountIf(predicate, ForkJoinPool.commonPool());
+    }
+
+    // Method to count the elements matching predicate, in parallel on pool.
+    // predicate is called from several threads at once, so it must not have side effects.
+    public int parallelCountIf(IntPredicate predicate, ForkJoinPool pool) {
+        Node[] starts = segmentStarts(pool);
+        int length = segmentLength;
+        return (int) SegmentReducer.reduce(pool, starts.length, 0, segment -> {
+            int count = 0;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                if (predicate.test(current.data)) {
+                    count++;
+                }
+                current = current.next;
+            }
+            return count;
+        }, Long::sum);
+    }
+
+    // Method to write the list, from head to tail, to path as a binary snapshot (see SnapshotWriter for the format)
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.DOUBLY_LINKED_LIST, size,
+                index != null ? 1 : 0)) {
+            for (Node current = head; current != null; current = current.next) {
+                writer.writeInt(current.data);
+            }
+        }
+    }
+
+    // Method to rebuild a list from a snapshot written by snapshot(), indexed if the saved list was.
+    // The nodes are linked in one pass; an indexed list also rebuilds its index as it goes.
+    public static DoublyLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.DOUBLY_LINKED_LIST)) {
+            boolean indexed = reader.state(0) == 1;
+            DoublyLinkedList list = new DoublyLinkedList(indexed);
+            if (indexed) {
+                for (int i = 0; i < reader.size(); i++) {
+                    list.insertAtTail(reader.readInt());
+                }
+                return list;
+            }
+            for (int i = 0; i < reader.size(); i++) {
+                Node newNode = new Node(reader.readInt());
+                if (list.tail == null) {
+                    list.head = newNode;
+                } else {
+                    list.tail.next = newNode;
+                    newNode.prev = list.tail;
+                }
+                list.tail = newNode;
+            }
+            list.size = reader.size();
+            return list;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
-        DoublyLinkedList list = new DoublyLinkedList();
+    public static void main(String[] args) throws IOException {
+        DoublyLinkedList list = new DoublyLinkedList(new ConsoleListener("DoublyLinkedList"));
 
         System.out.println("Is list empty? " + list.isEmpty());
         list.displayForward();
@@ -246,6 +752,9 @@ public class DoublyLinkedList {
         System.out.println("Search for 15: " + list.search(15));
         System.out.println("Search for 99 (not in list): " + list.search(99));
 
+        System.out.println("\n--- Peeking at both ends ---");
+        System.out.println("Head: " + list.peekHead() + ", Tail: " + list.peekTail()); // 2, 25
+
         System.out.println("\n--- Deleting elements ---");
         list.displayForward(); // 2 <-> 5 <-> 10 <-> 15 <-> 20 <-> 25
         
@@ -308,5 +817,118 @@ public class DoublyLinkedList {
         list.deleteByValue(99);
         list.displayForward();
         System.out.println("Is list empty? " + list.isEmpty() + ", Size: " + list.getSize());
+
+        System.out.println("\n--- Positional access ---");
+        for (int i = 1; i <= 5; i++) {
+            list.insertAtTail(i * 10); // 10 <-> 20 <-> 30 <-> 40 <-> 50
+        }
+        System.out.println("get(3): " + list.get(3)); // 40 (walked from tail)
+        System.out.println("set(1, 25) replaced: " + list.set(1, 25)); // 20
+        list.insertAtPosition(35, 3);  // 10 <-> 25 <-> 30 <-> 35 <-> 40 <-> 50
+        System.out.println("removeAt(2): " + list.removeAt(2)); // 30
+        list.displayForward();          // 10 <-> 25 <-> 35 <-> 40 <-> 50
+        try {
+            list.get(5);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("get(5): " + e.getMessage());
+        }
+        while (!list.isEmpty()) {
+            list.removeAt(0);
+        }
+
+        System.out.println("\n--- Sequential positional access over 1,000,000 elements ---");
+        DoublyLinkedList sequential = new DoublyLinkedList();
+        for (int i = 0; i < 1_000_000; i++) {
+            sequential.insertAtTail(i);
+        }
+        long scanStart = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < sequential.getSize(); i++) {
+            sum += sequential.get(i); // Each call moves the finger one link
+        }
+        System.out.println("Sum of get(0..999999): " + sum + " in "
+                + (System.nanoTime() - scanStart) / 1_000_000 + " ms"); // 499999500000
+
+        System.out.println("\n--- Indexed list: O(1) search and deleteByValue ---");
+        DoublyLinkedList indexed = new DoublyLinkedList(new ConsoleListener("DoublyLinkedList"), true);
+        indexed.insertAtTail(7);
+        indexed.insertAtTail(8);
+        indexed.insertAtTail(7);       // Duplicate value
+        indexed.insertAtPosition(9, 1);
+        indexed.displayForward();      // 7 <-> 9 <-> 8 <-> 7
+        indexed.deleteByValue(7);      // Removes the first 7; the index moves to the second one
+        indexed.displayForward();      // 9 <-> 8 <-> 7
+        System.out.println("Search for 7: " + indexed.search(7)); // true
+        indexed.deleteByValue(7);
+        System.out.println("Search for 7: " + indexed.search(7)); // false
+
+        System.out.println("\n--- Index memory overhead ---");
+        DoublyLinkedList big = new DoublyLinkedList(true);
+        int n = 1_000_000;
+        for (int i = 0; i < n; i++) {
+            big.insertAtTail(i);
+        }
+        System.out.println("Index bytes per element: " + big.indexMemoryBytes() / n);
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i += 2) {
+            big.deleteByValue(i);
+        }
+        System.out.println("Deleted " + n / 2 + " elements by value in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.out.println("Size: " + big.getSize() + ", search(999999): " + big.search(999_999));
+
+        System.out.println("\n--- Iteration from head to tail ---");
+        DoublyLinkedList iterable = new DoublyLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            iterable.insertAtTail(i);
+        }
+        iterable.deleteAtTail();
+        iterable.insertAtHead(0);
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 0 1 2 3 4
+        System.out.println();
+        System.out.println("Odd elements (stream().filter(x -> x % 2 == 1)): "
+                + Arrays.toString(iterable.stream().filter(x -> x % 2 == 1).toArray())); // [1, 3]
+
+        System.out.println("\n--- Parallel aggregates over 1,000,000 elements ---");
+        DoublyLinkedList numbers = new DoublyLinkedList();
+        for (int i = 1; i <= 1_000_000; i++) {
+            numbers.insertAtTail(i % 1000 - 500); // -500 .. 499, 1,000 times over
+        }
+        System.out.println("parallelSum(): " + numbers.parallelSum()); // -500000
+        System.out.println("parallelMin(): " + numbers.parallelMin()); // -500
+        System.out.println("parallelMax(): " + numbers.parallelMax()); // 499
+        System.out.println("parallelCountIf(x > 0): " + numbers.parallelCountIf(x -> x > 0)); // 499000
+        numbers.insertAtHead(1_000_000); // Structural change: the segment starts are rebuilt
+        System.out.println("parallelMax() after insertAtHead(1000000): " + numbers.parallelMax()); // 1000000
+
+        System.out.println("\n--- Node pooling ---");
+        DoublyLinkedList pooled = new DoublyLinkedList(OperationListener.NONE, true, 16);
+        for (int i = 0; i < 100_000; i++) {
+            pooled.insertAtHead(i);
+            if (pooled.getSize() == 10) {
+                pooled.deleteAtTail(); // Its node is reused by the next insert
+            }
+        }
+        pooled.removeAt(4);             // Every kind of deletion returns the node to the pool
+        pooled.deleteByValue(99_998);
+        pooled.insertAtTail(-1);
+        System.out.println("Pool hits: " + pooled.poolStats().hits() + ", misses: " + pooled.poolStats().misses()); // 99991, 10
+        System.out.println("Size: " + pooled.getSize() + ", pooled nodes: " + pooled.poolStats().size()); // 8, 2
+        System.out.println("Index still exact after reuse, search(99999): " + pooled.search(99_999)
+                + ", search(99998): " + pooled.search(99_998)); // true, false
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("DoublyLinkedList", ".snap");
+        DoublyLinkedList saved = new DoublyLinkedList(true);
+        for (int i = 1; i <= 5; i++) {
+            saved.insertAtTail(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        DoublyLinkedList restored = DoublyLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored list is indexed: " + restored.isIndexed()); // true
+        Files.delete(snapshotFile);
     }
 }
@@ -0,0 +1,474 @@
+package dataStructures.linkedLists;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// Off-heap counterpart of DoublyLinkedList with the same API.
+// Nodes are not objects: node i is three ints (data, prev, next) at byte offset i * 12
+// of one direct ByteBuffer, and links are node indices with NIL (-1) for null.
+// Deleted nodes go on a free-list (threaded through their next slot) and are reused by
+// later inserts, so after warm-up the list creates no heap objects per element and the
+// GC only ever sees the single buffer. When the buffer is full it is replaced by one
+// twice the size.
+public class OffHeapDoublyLinkedList implements IntIterable {
+
+    private static final int NIL = -1;            // Index used as the null link
+    private static final int NODE_BYTES = 12;     // data + prev + next
+    private static final int DATA = 0;            // Byte offsets inside a node
+    private static final int PREV = 4;
+    private static final int NEXT = 8;
+    private static final int MAX_NODES = Integer.MAX_VALUE / NODE_BYTES;
+
+    private ByteBuffer nodes;  // Node storage, native byte order
+    private int capacity;      // Number of node slots in the buffer
+    private int used;          // Slots below this index have been handed out at least once
+    private int freeHead;      // First slot of the free-list, or NIL
+    private int head;          // Index of the head node, or NIL
+    private int tail;          // Index of the tail node, or NIL
+    private int size;          // To keep track of the number of elements
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor for OffHeapDoublyLinkedList with room for 1024 nodes before the first resize
+    public OffHeapDoublyLinkedList() {
+        this(1024, OperationListener.NONE);
+    }
+
+    // Constructor for OffHeapDoublyLinkedList with room for initialCapacity nodes
+    public OffHeapDoublyLinkedList(int initialCapacity) {
+        this(initialCapacity, OperationListener.NONE);
+    }
+
+    // Constructor for OffHeapDoublyLinkedList that reports every mutation to the given listener
+    public OffHeapDoublyLinkedList(int initialCapacity, OperationListener listener) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_NODES) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_NODES + ".");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.nodes = ByteBuffer.allocateDirect(initialCapacity * NODE_BYTES).order(ByteOrder.nativeOrder());
+        this.capacity = initialCapacity;
+        this.used = 0;
+        this.freeHead = NIL;
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.listener = listener;
+    }
+
+    // Slot accessors
+    private int data(int node) {
+        return nodes.getInt(node * NODE_BYTES + DATA);
+    }
+
+    private int prev(int node) {
+        return nodes.getInt(node * NODE_BYTES + PREV);
+    }
+
+    private int next(int node) {
+        return nodes.getInt(node * NODE_BYTES + NEXT);
+    }
+
+    private void setPrev(int node, int value) {
+        nodes.putInt(node * NODE_BYTES + PREV, value);
+    }
+
+    private void setNext(int node, int value) {
+        nodes.putInt(node * NODE_BYTES + NEXT, value);
+    }
+
+    // Takes a slot from the free-list (or the never-used tail of the buffer) and fills it
+    private int allocate(int data, int prev, int next) {
+        int node;
+        if (freeHead != NIL) {
+            node = freeHead;
+            freeHead = next(node);
+        } else {
+            if (used == capacity) {
+                grow();
+            }
+            node = used++;
+        }
+        int base = node * NODE_BYTES;
+        nodes.putInt(base + DATA, data);
+        nodes.putInt(base + PREV, prev);
+        nodes.putInt(base + NEXT, next);
+        return node;
+    }
+
+    // Puts a slot back on the free-list
+    private void release(int node) {
+        setNext(node, freeHead);
+        freeHead = node;
+    }
+
+    private void grow() {
+        if (capacity == MAX_NODES) {
+            throw new IllegalStateException("List cannot hold more than " + MAX_NODES + " nodes.");
+        }
+        int newCapacity = (int) Math.min((long) capacity * 2, MAX_NODES);
+        ByteBuffer larger = ByteBuffer.allocateDirect(newCapacity * NODE_BYTES).order(ByteOrder.nativeOrder());
+        ByteBuffer old = nodes.duplicate();
+        old.clear();
+        larger.put(old);
+        nodes = larger;
+        capacity = newCapacity;
+    }
+
+    // Method to check if the list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Method to get the size of the list
+    public int getSize() {
+        return size;
+    }
+
+    // Method to return the number of node slots currently reserved off-heap
+    public int capacity() {
+        return capacity;
+    }
+
+    // Method to insert a new node at the head of the list
+    public void insertAtHead(int data) {
+        int newNode = allocate(data, NIL, head);
+        if (isEmpty()) {
+            tail = newNode;
+        } else {
+            setPrev(head, newNode);
+        }
+        head = newNode;
+        size++;
+        listener.onEvent(Operation.INSERT_HEAD, data, size);
+    }
+
+    // Method to insert a new node at the tail of the list
+    public void insertAtTail(int data) {
+        int newNode = allocate(data, tail, NIL);
+        if (isEmpty()) {
+            head = newNode;
+        } else {
+            setNext(tail, newNode);
+        }
+        tail = newNode;
+        size++;
+        listener.onEvent(Operation.INSERT_TAIL, data, size);
+    }
+
+    // Method to insert a new node at a specific position (0-indexed)
+    public void insertAtPosition(int data, int position) {
+        if (position < 0 || position > size) {
+            listener.onEvent(Operation.INVALID_POSITION, position, size);
+            return;
+        }
+        if (position == 0) {
+            insertAtHead(data);
+            return;
+        }
+        if (position == size) {
+            insertAtTail(data);
+            return;
+        }
+
+        int current = head;
+        // Traverse to the node currently at the target position
+        for (int i = 0; i < position; i++) {
+            current = next(current);
+        }
+
+        // Insert the new node before current
+        int previous = prev(current);
+        int newNode = allocate(data, previous, current);
+        setNext(previous, newNode);
+        setPrev(current, newNode);
+        size++;
+        listener.onEvent(Operation.INSERT_AT_POSITION, data, size);
+    }
+
+    // Method to delete the node at the head of the list
+    public void deleteAtHead() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        int deleted = head;
+        int deletedData = data(deleted);
+        if (size == 1) { // Only one node
+            head = NIL;
+            tail = NIL;
+        } else {
+            head = next(deleted);
+            setPrev(head, NIL);
+        }
+        release(deleted);
+        size--;
+        listener.onEvent(Operation.DELETE_HEAD, deletedData, size);
+    }
+
+    // Method to delete the node at the tail of the list
+    public void deleteAtTail() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        int deleted = tail;
+        int deletedData = data(deleted);
+        if (size == 1) { // Only one node
+            head = NIL;
+            tail = NIL;
+        } else {
+            tail = prev(deleted);
+            setNext(tail, NIL);
+        }
+        release(deleted);
+        size--;
+        listener.onEvent(Operation.DELETE_TAIL, deletedData, size);
+    }
+
+    // Method to delete the first occurrence of a node with the given value
+    public void deleteByValue(int data) {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+
+        int current = head;
+        // Search for the node
+        while (current != NIL && data(current) != data) {
+            current = next(current);
+        }
+
+        // If value not found
+        if (current == NIL) {
+            listener.onEvent(Operation.NOT_FOUND, data, size);
+            return;
+        }
+        if (current == head) {
+            deleteAtHead();
+            return;
+        }
+        if (current == tail) {
+            deleteAtTail();
+            return;
+        }
+
+        // Node is in the middle
+        int previous = prev(current);
+        int following = next(current);
+        setNext(previous, following);
+        setPrev(following, previous);
+        release(current);
+        size--;
+        listener.onEvent(Operation.DELETE_VALUE, data, size);
+    }
+
+    // Method to search for a value in the list
+    public boolean search(int data) {
+        for (int current = head; current != NIL; current = next(current)) {
+            if (data(current) == data) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Method to display the elements of the list from head to tail
+    public void displayForward() {
+        if (isEmpty()) {
+            System.out.println("List is empty.");
+            return;
+        }
+        System.out.print("List (forward): head <-> ");
+        for (int current = head; current != NIL; current = next(current)) {
+            System.out.print(data(current) + " <-> ");
+        }
+        System.out.println("null");
+    }
+
+    // Method to display the elements of the list from tail to head
+    public void displayBackward() {
+        if (isEmpty()) {
+            System.out.println("List is empty.");
+            return;
+        }
+        System.out.print("List (backward): null <-> ");
+        for (int current = tail; current != NIL; current = prev(current)) {
+            System.out.print(data(current) + " <-> ");
+        }
+        System.out.println("head");
+    }
+
+    // Method to return an iterator over the elements from head to tail
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == NIL) {
+                    throw new NoSuchElementException();
+                }
+                int value = data(current);
+                current = OffHeapDoublyLinkedList.this.next(current);
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from head to tail, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (int current = head; current != NIL; current = OffHeapDoublyLinkedList.this.next(current)) {
+            action.accept(data(current));
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from head to tail
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the list, from head to tail, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The capacity is saved too; free slots are not,
+    // so a restored list is compacted into slots 0 .. size-1.
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.OFF_HEAP_DOUBLY_LINKED_LIST, size,
+                capacity)) {
+            for (int current = head; current != NIL; current = next(current)) {
+                writer.writeInt(data(current));
+            }
+        }
+    }
+
+    // Method to rebuild a list from a snapshot written by snapshot(); node i is linked between
+    // nodes i - 1 and i + 1, so the buffer is filled front to back in one pass
+    public static OffHeapDoublyLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.OFF_HEAP_DOUBLY_LINKED_LIST)) {
+            int size = reader.size();
+            int capacity = Math.max(Math.max(reader.state(0), size), 1);
+            if (capacity > MAX_NODES) {
+                throw new IOException("Snapshot capacity " + capacity + " exceeds " + MAX_NODES + " nodes: " + path);
+            }
+            OffHeapDoublyLinkedList list = new OffHeapDoublyLinkedList(capacity);
+            for (int i = 0; i < size; i++) {
+                int offset = i * NODE_BYTES;
+                list.nodes.putInt(offset + DATA, reader.readInt());
+                list.nodes.putInt(offset + PREV, i - 1);                   // NIL for the head
+                list.nodes.putInt(offset + NEXT, i == size - 1 ? NIL : i + 1);
+            }
+            if (size > 0) {
+                list.head = 0;
+                list.tail = size - 1;
+            }
+            list.used = size;
+            list.size = size;
+            return list;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        OffHeapDoublyLinkedList list = new OffHeapDoublyLinkedList(2, new ConsoleListener("OffHeapDoublyLinkedList"));
+
+        System.out.println("Is list empty? " + list.isEmpty());
+        list.displayForward();
+
+        System.out.println("\n--- Inserting elements ---");
+        list.insertAtTail(10);          // 10
+        list.insertAtHead(5);           // 5 <-> 10
+        list.insertAtTail(20);          // 5 <-> 10 <-> 20 (buffer grows from 2 to 4 nodes)
+        list.insertAtPosition(15, 2);   // 5 <-> 10 <-> 15 <-> 20
+        list.insertAtPosition(2, 0);    // 2 <-> 5 <-> 10 <-> 15 <-> 20
+        list.insertAtPosition(25, 5);   // 2 <-> 5 <-> 10 <-> 15 <-> 20 <-> 25
+        list.displayForward();
+        list.displayBackward();
+        list.insertAtPosition(100, 10); // Attempt to insert out of bounds
+        System.out.println("Size: " + list.getSize() + ", Capacity: " + list.capacity()); // 6, 8
+
+        System.out.println("\n--- Searching elements ---");
+        System.out.println("Search for 15: " + list.search(15)); // true
+        System.out.println("Search for 99 (not in list): " + list.search(99)); // false
+
+        System.out.println("\n--- Deleting elements ---");
+        list.deleteAtHead();    // 5 <-> 10 <-> 15 <-> 20 <-> 25
+        list.deleteAtTail();    // 5 <-> 10 <-> 15 <-> 20
+        list.deleteByValue(10); // 5 <-> 15 <-> 20
+        list.deleteByValue(99); // Not found
+        list.displayForward();
+        list.displayBackward();
+
+        System.out.println("\n--- Freed slots are reused ---");
+        list.insertAtTail(30);
+        list.insertAtTail(40);
+        list.insertAtTail(50);
+        list.displayForward(); // 5 <-> 15 <-> 20 <-> 30 <-> 40 <-> 50
+        System.out.println("Size: " + list.getSize() + ", Capacity: " + list.capacity()); // 6, 8 (no growth)
+
+        System.out.println("\n--- Emptying the list ---");
+        while (!list.isEmpty()) {
+            list.deleteAtHead();
+        }
+        list.displayForward();
+        list.deleteAtTail(); // Attempt delete from empty
+
+        System.out.println("\n--- Churn at constant off-heap size ---");
+        OffHeapDoublyLinkedList deque = new OffHeapDoublyLinkedList(1 << 20);
+        for (int i = 0; i < 1 << 20; i++) {
+            deque.insertAtTail(i);
+        }
+        for (int i = 0; i < 10_000_000; i++) {
+            deque.deleteAtHead();
+            deque.insertAtTail(i);
+        }
+        System.out.println("Size: " + deque.getSize() + ", Capacity: " + deque.capacity()); // 1048576, 1048576
+
+        System.out.println("\n--- Iteration from head to tail ---");
+        OffHeapDoublyLinkedList iterable = new OffHeapDoublyLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            iterable.insertAtHead(i);
+        }
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 5 4 3 2 1
+        System.out.println();
+        System.out.println("stream().toArray() copies the values on-heap: "
+                + Arrays.toString(iterable.stream().toArray())); // [5, 4, 3, 2, 1]
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("OffHeapDoublyLinkedList", ".snap");
+        OffHeapDoublyLinkedList saved = new OffHeapDoublyLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            saved.insertAtTail(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        OffHeapDoublyLinkedList restored = OffHeapDoublyLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        Files.delete(snapshotFile);
+    }
+}
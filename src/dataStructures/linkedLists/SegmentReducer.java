@@ -0,0 +1,77 @@
+package dataStructures.linkedLists;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongBinaryOperator;
+
+// Helpers for the parallel aggregates of the lists in this package.
+// A list is cut into contiguous segments of segmentLength(size) nodes; the list remembers the
+// first node of each segment, and reduce() folds the segments on a ForkJoinPool and combines
+// the partial results pairwise.
+final class SegmentReducer {
+
+    static final int MIN_SEGMENT_LENGTH = 4096; // Below this a task costs more than the walk it saves
+    static final int MAX_SEGMENTS = 256;        // Enough tasks to keep 64 workers busy
+
+    // Folds one segment to a partial result
+    @FunctionalInterface
+    interface SegmentFolder {
+        long fold(int segment);
+    }
+
+    private SegmentReducer() {
+    }
+
+    // Number of nodes per segment for a list of the given size
+    static int segmentLength(int size) {
+        return Math.max(MIN_SEGMENT_LENGTH, (int) ((size + (long) MAX_SEGMENTS - 1) / MAX_SEGMENTS));
+    }
+
+    // Number of segments of segmentLength(size) nodes needed to cover size nodes
+    static int segmentCount(int size) {
+        int length = segmentLength(size);
+        return (int) ((size + (long) length - 1) / length);
+    }
+
+    // Folds segments 0 .. segmentCount-1 on pool and combines the results with combiner, which
+    // must be associative. Returns identity when there are no segments.
+    static long reduce(ForkJoinPool pool, int segmentCount, long identity,
+                       SegmentFolder folder, LongBinaryOperator combiner) {
+        if (segmentCount == 0) {
+            return identity;
+        }
+        if (segmentCount == 1) {
+            return folder.fold(0); // Not worth a round trip through the pool
+        }
+        return pool.invoke(new ReduceTask(folder, combiner, 0, segmentCount));
+    }
+
+    // Folds segments [lo, hi): splits in half until a single segment is left
+    private static final class ReduceTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final SegmentFolder folder;
+        private final LongBinaryOperator combiner;
+        private final int lo;
+        private final int hi;
+
+        ReduceTask(SegmentFolder folder, LongBinaryOperator combiner, int lo, int hi) {
+            this.folder = folder;
+            this.combiner = combiner;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Long compute() {
+            if (hi - lo == 1) {
+                return folder.fold(lo);
+            }
+            int middle = (lo + hi) >>> 1;
+            ReduceTask left = new ReduceTask(folder, combiner, lo, middle);
+            left.fork();
+            long right = new ReduceTask(folder, combiner, middle, hi).compute();
+            return combiner.applyAsLong(left.join(), right);
+        }
+    }
+}
@@ -1,8 +1,42 @@
 package dataStructures.linkedLists;
 
-public class SinglyLinkedList {
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.NodePool;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.PoolStats;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+public class SinglyLinkedList implements IntIterable {
 
     private Node head; // Head of the list
+    private Node tail; // Tail of the list, so appends do not have to walk from head
+    private int size;  // To keep track of the number of elements
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+    private final NodePool<Node> pool;        // Deleted nodes kept for reuse by inserts; off by default
+
+    // Parallel aggregates: segmentStarts[k] is the node at position k * segmentLength. It is
+    // built on first use and reused until a structural change bumps modCount; appends at the
+    // tail extend it instead (see appendSegmentStarts).
+    private int modCount;           // Number of structural changes (inserts, deletes, relinks)
+    private Node[] segmentStarts;   // null until the first parallel aggregate
+    private int segmentLength;
+    private int segmentsModCount;   // modCount when segmentStarts was built
 
     // Inner class Node
     private static class Node {
@@ -18,7 +52,30 @@ public class SinglyLinkedList {
 
     // Constructor for SinglyLinkedList
     public SinglyLinkedList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor for SinglyLinkedList that reports every mutation to the given listener
+    public SinglyLinkedList(OperationListener listener) {
+        this(listener, 0);
+    }
+
+    // Constructor for SinglyLinkedList with a listener and a pool that keeps up to poolCapacity
+    // deleted nodes for later inserts (0 turns pooling off)
+    public SinglyLinkedList(OperationListener listener, int poolCapacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
         head = null;
+        tail = null;
+        size = 0;
+        this.listener = listener;
+        this.pool = new NodePool<>(poolCapacity, Node::new, (node, data) -> node.data = data, node -> node.next = null);
+    }
+
+    // Method to return the hit, miss and size counters of the node pool
+    public PoolStats poolStats() {
+        return pool.stats();
     }
 
     // Method to check if the list is empty
@@ -26,100 +83,190 @@ public class SinglyLinkedList {
         return head == null;
     }
 
+    // Method to get the size of the list
+    public int getSize() {
+        return size;
+    }
+
     // Method to insert a new node at the head of the list
     public void insertAtHead(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         newNode.next = head;
         head = newNode;
-        System.out.println(data + " inserted at head.");
+        if (tail == null) {
+            tail = newNode;
+        }
+        size++;
+        modCount++;
+        listener.onEvent(Operation.INSERT_HEAD, data, size);
     }
 
     // Method to insert a new node at the tail of the list
     public void insertAtTail(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         if (isEmpty()) {
             head = newNode;
-            System.out.println(data + " inserted at tail (list was empty).");
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+        appendSegmentStarts(newNode, size - 1, size);
+        modCount++;
+        listener.onEvent(Operation.INSERT_TAIL, data, size);
+    }
+
+    // Method to append every element of values, in order, at the tail of the list
+    public void insertAllAtTail(int[] values) {
+        insertAllAtTail(values, 0, values.length);
+    }
+
+    // Method to append values[offset .. offset+length-1], in order, at the tail of the list.
+    // The new nodes are chained together first and linked to the list once.
+    public void insertAllAtTail(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        if (length == 0) {
             return;
         }
-        Node current = head;
-        while (current.next != null) {
-            current = current.next;
+        Node first = pool.acquire(values[offset]);
+        Node last = first;
+        for (int i = offset + 1; i < offset + length; i++) {
+            Node newNode = pool.acquire(values[i]);
+            last.next = newNode;
+            last = newNode;
+        }
+        if (isEmpty()) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        appendSegmentStarts(first, size, size + length);
+        modCount++;
+        for (int i = offset; i < offset + length; i++) {
+            size++;
+            listener.onEvent(Operation.INSERT_TAIL, values[i], size);
         }
-        current.next = newNode;
-        System.out.println(data + " inserted at tail.");
+    }
+
+    // Method to move every element of other, in order, to the tail of this list in O(1).
+    // other is left empty. Each list reports the move as one event carrying the element count,
+    // TRANSFER_IN here and TRANSFER_OUT on other, since naming every element would take O(n).
+    public void transferAllToTail(SinglyLinkedList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot transfer a list to itself.");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        if (isEmpty()) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        int moved = other.size;
+        tail = other.tail;
+        size += moved;
+        modCount++;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        other.modCount++;
+        listener.onEvent(Operation.TRANSFER_IN, moved, size);
+        other.listener.onEvent(Operation.TRANSFER_OUT, moved, 0);
     }
 
     // Method to insert a new node at a specific position (0-indexed)
     public void insertAtPosition(int data, int position) {
         if (position < 0) {
-            System.out.println("Invalid position: " + position + ". Position cannot be negative.");
+            listener.onEvent(Operation.INVALID_POSITION, position, size);
             return;
         }
         if (position == 0) {
             insertAtHead(data);
             return;
         }
+        // Appending needs no walk now that the tail is tracked
+        if (position >= size) {
+            if (position > size) {
+                // If position is out of bounds (greater than current size)
+                listener.onEvent(Operation.OUT_OF_BOUNDS, position, size);
+            }
+            insertAtTail(data);
+            return;
+        }
 
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         Node current = head;
-        int currentPosition = 0;
 
         // Traverse to the node just before the target position
-        while (current != null && currentPosition < position - 1) {
+        for (int currentPosition = 0; currentPosition < position - 1; currentPosition++) {
             current = current.next;
-            currentPosition++;
         }
 
-        // If position is out of bounds (greater than current size)
-        if (current == null) {
-            System.out.println("Position " + position + " is out of bounds. Current list size is " + (currentPosition) + ". Inserting at tail instead.");
-            insertAtTail(data); // Optionally, insert at tail or throw error
-        } else {
-            newNode.next = current.next;
-            current.next = newNode;
-            System.out.println(data + " inserted at position " + position + ".");
-        }
+        newNode.next = current.next;
+        current.next = newNode;
+        size++;
+        modCount++;
+        listener.onEvent(Operation.INSERT_AT_POSITION, data, size);
     }
 
     // Method to delete the node at the head of the list
     public void deleteAtHead() {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
-        int deletedData = head.data;
-        head = head.next;
-        System.out.println(deletedData + " deleted from head.");
+        Node deleted = head;
+        int deletedData = deleted.data;
+        head = deleted.next;
+        if (head == null) {
+            tail = null;
+        }
+        pool.release(deleted);
+        size--;
+        modCount++;
+        listener.onEvent(Operation.DELETE_HEAD, deletedData, size);
     }
 
     // Method to delete the node at the tail of the list
     public void deleteAtTail() {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
+        int deletedData = tail.data;
         // If there's only one node
-        if (head.next == null) {
-            System.out.println(head.data + " deleted from tail (was also head).");
+        if (head == tail) {
+            pool.release(head);
             head = null;
+            tail = null;
+            size--;
+            modCount++;
+            listener.onEvent(Operation.DELETE_TAIL, deletedData, size);
             return;
         }
 
-        Node current = head;
-        Node previous = null;
-        while (current.next != null) {
-            previous = current;
-            current = current.next;
+        // A singly linked node does not know its predecessor, so removing the tail still walks the list
+        Node previous = head;
+        while (previous.next != tail) {
+            previous = previous.next;
         }
         previous.next = null; // Unlink the last node
-        System.out.println(current.data + " deleted from tail.");
+        pool.release(tail);
+        tail = previous;
+        size--;
+        modCount++;
+        listener.onEvent(Operation.DELETE_TAIL, deletedData, size);
     }
 
     // Method to delete the first occurrence of a node with the given value
     public void deleteByValue(int data) {
         if (isEmpty()) {
-            System.out.println("Deletion failed: List is empty.");
+            listener.onEvent(Operation.EMPTY, 0, size);
             return;
         }
 
@@ -138,13 +285,19 @@ public class SinglyLinkedList {
 
         // If the value was not found
         if (current == null) {
-            System.out.println("Deletion failed: Value " + data + " not found in the list.");
+            listener.onEvent(Operation.NOT_FOUND, data, size);
             return;
         }
 
         // Unlink the node from the linked list
         previous.next = current.next;
-        System.out.println(data + " deleted from the list.");
+        if (current == tail) {
+            tail = previous;
+        }
+        pool.release(current);
+        size--;
+        modCount++;
+        listener.onEvent(Operation.DELETE_VALUE, data, size);
     }
 
     // Method to search for a value in the list
@@ -177,9 +330,210 @@ public class SinglyLinkedList {
         System.out.println("null");
     }
 
+    // Method to return an iterator over the elements from head to tail
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from head to tail, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (Node current = head; current != null; current = current.next) {
+            action.accept(current.data);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from head to tail
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Returns the first node of every segment, rebuilding the cache if the list has changed.
+    // The rebuild is one sequential walk from head, O(n): any change other than an append at
+    // the tail (an insert or delete at the head shifts every position) costs the next parallel
+    // aggregate that walk, so they pay off on a list that is read far more often than changed.
+    private Node[] segmentStarts() {
+        if (segmentStarts == null || segmentsModCount != modCount) {
+            int length = SegmentReducer.segmentLength(size);
+            Node[] starts = new Node[SegmentReducer.segmentCount(size)];
+            // One walk from head; a singly linked list cannot be entered anywhere else
+            Node current = head;
+            for (int position = 0; current != null; position++) {
+                if (position % length == 0) {
+                    starts[position / length] = current;
+                }
+                current = current.next;
+            }
+            segmentStarts = starts;
+            segmentLength = length;
+            segmentsModCount = modCount;
+        }
+        return segmentStarts;
+    }
+
+    // Keeps the segment cache valid across an append at the tail. Called before modCount is
+    // bumped, with first the first appended node, now at position oldSize of newSize nodes.
+    // Only appended nodes that start a new segment are recorded, so the cost is at most one
+    // walk over the appended nodes. The cache is left stale when the segment length changes.
+    private void appendSegmentStarts(Node first, int oldSize, int newSize) {
+        if (segmentStarts == null || segmentsModCount != modCount
+                || SegmentReducer.segmentLength(newSize) != segmentLength) {
+            return;
+        }
+        int count = SegmentReducer.segmentCount(newSize);
+        if (count > segmentStarts.length) {
+            Node[] starts = Arrays.copyOf(segmentStarts, count);
+            int length = segmentLength;
+            Node current = first;
+            for (int position = oldSize; current != null; position++) {
+                if (position % length == 0) {
+                    starts[position / length] = current;
+                }
+                current = current.next;
+            }
+            segmentStarts = starts;
+        }
+        segmentsModCount = modCount + 1; // The modCount the caller is about to set
+    }
+
+    // Method to return the sum of all elements, computed in parallel on the common pool
+    public long parallelSum() {
+        return parallelSum(ForkJoinPool.commonPool());
+    }
+
+    // Method to return the sum of all elements, computed in parallel on pool
+    public long parallelSum(ForkJoinPool pool) {
+        Node[] starts = segmentStarts();
+        int length = segmentLength;
+        return SegmentReducer.reduce(pool, starts.length, 0, segment -> {
+            long sum = 0;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                sum += current.data;
+                current = current.next;
+            }
+            return sum;
+        }, Long::sum);
+    }
+
+    // Method to return the smallest element, computed in parallel on the common pool
+    public int parallelMin() {
+        return parallelMin(ForkJoinPool.commonPool());
+    }
+
+    // Method to return the smallest element, computed in parallel on pool
+    public int parallelMin(ForkJoinPool pool) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        Node[] starts = segmentStarts();
+        int length = segmentLength;
+        return (int) SegmentReducer.reduce(pool, starts.length, Integer.MAX_VALUE, segment -> {
+            int min = Integer.MAX_VALUE;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                min = Math.min(min, current.data);
+                current = current.next;
+            }
+            return min;
+        }, Math::min);
+    }
+
+    // Method to return the largest element, computed in parallel on the common pool
+    public int parallelMax() {
+        return parallelMax(ForkJoinPool.commonPool());
+    }
+
+    // Method to return the largest element, computed in parallel on pool
+    public int parallelMax(ForkJoinPool pool) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        Node[] starts = segmentStarts();
+        int length = segmentLength;
+        return (int) SegmentReducer.reduce(pool, starts.length, Integer.MIN_VALUE, segment -> {
+            int max = Integer.MIN_VALUE;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                max = Math.max(max, current.data);
+                current = current.next;
+            }
+            return max;
+        }, Math::max);
+    }
+
+    // Method to count the elements matching predicate, in parallel on the common pool
+    public int parallelCountIf(IntPredicate predicate) {
+        return parallelCountIf(predicate, ForkJoinPool.commonPool());
+    }
+
+    // Method to count the elements matching predicate, in parallel on pool.
+    // predicate is called from several threads at once, so it must not have side effects.
+    public int parallelCountIf(IntPredicate predicate, ForkJoinPool pool) {
+        Node[] starts = segmentStarts();
+        int length = segmentLength;
+        return (int) SegmentReducer.reduce(pool, starts.length, 0, segment -> {
+            int count = 0;
+            Node current = starts[segment];
+            for (int i = 0; i < length && current != null; i++) {
+                if (predicate.test(current.data)) {
+                    count++;
+                }
+                current = current.next;
+            }
+            return count;
+        }, Long::sum);
+    }
+
+    // Method to write the list, from head to tail, to path as a binary snapshot (see SnapshotWriter for the format)
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.SINGLY_LINKED_LIST, size)) {
+            for (Node current = head; current != null; current = current.next) {
+                writer.writeInt(current.data);
+            }
+        }
+    }
+
+    // Method to rebuild a list from a snapshot written by snapshot(), linking the nodes in one pass
+    public static SinglyLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.SINGLY_LINKED_LIST)) {
+            SinglyLinkedList list = new SinglyLinkedList();
+            for (int i = 0; i < reader.size(); i++) {
+                Node newNode = new Node(reader.readInt());
+                if (list.tail == null) {
+                    list.head = newNode;
+                } else {
+                    list.tail.next = newNode;
+                }
+                list.tail = newNode;
+            }
+            list.size = reader.size();
+            return list;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
-        SinglyLinkedList list = new SinglyLinkedList();
+    public static void main(String[] args) throws IOException {
+        SinglyLinkedList list = new SinglyLinkedList(new ConsoleListener("SinglyLinkedList"));
 
         System.out.println("Is list empty? " + list.isEmpty());
         list.display();
@@ -224,10 +578,6 @@ public class SinglyLinkedList {
         list.insertAtTail(60);
         list.display();
 
-        list.deleteAtPosition(0,0); // Should fail, deleteAtPosition not implemented - this is a test for the user to notice
-                                   // My apologies, I will remove this line as deleteAtPosition is not part of the requirements.
-                                   // The requirement was insertAtPosition, not deleteAtPosition.
-
         System.out.println("\n--- Deleting remaining elements to empty the list ---");
         list.deleteByValue(50);
         list.display();
@@ -256,5 +606,70 @@ public class SinglyLinkedList {
         list.deleteAtHead();
         list.display();
         System.out.println("Is list empty? " + list.isEmpty());
+
+        System.out.println("\n--- Bulk appends ---");
+        list.insertAllAtTail(new int[]{1, 2, 3});
+        list.display(); // 1 -> 2 -> 3
+        SinglyLinkedList feed = new SinglyLinkedList(new ConsoleListener("feed"));
+        feed.insertAllAtTail(new int[]{0, 4, 5, 6, 0}, 1, 3);
+        list.transferAllToTail(feed);
+        list.display(); // 1 -> 2 -> 3 -> 4 -> 5 -> 6
+        System.out.println("Size: " + list.getSize() + ", feed size: " + feed.getSize()); // 6, 0
+
+        System.out.println("\n--- Appending 1,000,000 elements one by one is linear time ---");
+        SinglyLinkedList big = new SinglyLinkedList();
+        long start = System.nanoTime();
+        for (int i = 0; i < 1_000_000; i++) {
+            big.insertAtTail(i);
+        }
+        System.out.println("Size: " + big.getSize() + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        System.out.println("\n--- Iteration from head to tail ---");
+        SinglyLinkedList iterable = new SinglyLinkedList();
+        iterable.insertAllAtTail(new int[]{2, 3, 4});
+        iterable.insertAtHead(1);
+        iterable.insertAtTail(5);
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5
+        System.out.println();
+        System.out.println("stream().average(): " + iterable.stream().average().getAsDouble()); // 3.0
+
+        System.out.println("\n--- Parallel aggregates over 1,000,000 elements ---");
+        SinglyLinkedList numbers = new SinglyLinkedList();
+        for (int i = 1; i <= 1_000_000; i++) {
+            numbers.insertAtTail(i % 1000 - 500); // -500 .. 499, 1,000 times over
+        }
+        System.out.println("parallelSum(): " + numbers.parallelSum()); // -500000
+        System.out.println("parallelMin(): " + numbers.parallelMin()); // -500
+        System.out.println("parallelMax(): " + numbers.parallelMax()); // 499
+        System.out.println("parallelCountIf(x > 0): " + numbers.parallelCountIf(x -> x > 0)); // 499000
+        numbers.insertAtHead(1_000_000); // Structural change: the segment starts are rebuilt
+        System.out.println("parallelMax() after insertAtHead(1000000): " + numbers.parallelMax()); // 1000000
+
+        System.out.println("\n--- Node pooling ---");
+        SinglyLinkedList pooled = new SinglyLinkedList(OperationListener.NONE, 16);
+        for (int i = 0; i < 100_000; i++) {
+            pooled.insertAtTail(i);
+            if (pooled.getSize() == 10) {
+                pooled.deleteAtHead(); // Its node is reused by the next insert
+            }
+        }
+        pooled.deleteByValue(99_995); // Any deletion returns the node to the pool
+        pooled.insertAtPosition(-1, 3);
+        System.out.println("Pool hits: " + pooled.poolStats().hits() + ", misses: " + pooled.poolStats().misses()); // 99991, 10
+        System.out.println("Size: " + pooled.getSize() + ", pooled nodes: " + pooled.poolStats().size()); // 9, 1
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("SinglyLinkedList", ".snap");
+        SinglyLinkedList saved = new SinglyLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            saved.insertAtTail(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        SinglyLinkedList restored = SinglyLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        Files.delete(snapshotFile);
     }
 }
@@ -0,0 +1,450 @@
+package dataStructures.linkedLists;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException; // For floor/ceiling and empty list scenarios
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// Sorted set of ints with the SinglyLinkedList API, kept as a skip list.
+// Level 0 is an ordinary sorted singly linked list; every node also appears on a random number
+// of express levels above it (each level holds about half the nodes of the one below), so
+// search, insert, delete, floor and ceiling skip over most of the list in expected O(log n).
+// Duplicate values are ignored, as in a set.
+public class SortedSkipList implements IntIterable {
+
+    private static final int MAX_LEVEL = 32; // Enough for any int-sized list at p = 1/2
+
+    private final Node head;  // Sentinel holding the first node of every level
+    private int level;        // Number of levels currently in use (at least 1)
+    private int size;         // To keep track of the number of elements
+    private int randomSeed;   // xorshift state for choosing node levels
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+    // Scratch array for insert and unlink, reused so that they do not allocate one per call
+    // (the list is single-threaded). Between calls it may still reference up to MAX_LEVEL
+    // nodes that have since been deleted; they are overwritten by the next search.
+    private final Node[] update = new Node[MAX_LEVEL];
+
+    // Inner class Node: next[i] is the following node on level i
+    private static class Node {
+        final int data;
+        final Node[] next;
+
+        // Constructor for Node
+        Node(int d, int levels) {
+            data = d;
+            next = new Node[levels];
+        }
+    }
+
+    // Constructor for SortedSkipList
+    public SortedSkipList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor for SortedSkipList that reports every mutation to the given listener
+    public SortedSkipList(OperationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.head = new Node(0, MAX_LEVEL);
+        this.level = 1;
+        this.size = 0;
+        this.randomSeed = 0x2545F491;
+        this.listener = listener;
+    }
+
+    // Method to check if the list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Method to get the size of the list
+    public int getSize() {
+        return size;
+    }
+
+    // Level count for a new node: 1 + the number of trailing one bits of a random int,
+    // so level k is reached with probability 1 / 2^(k-1)
+    private int randomLevel() {
+        int x = randomSeed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        randomSeed = x;
+        return Math.min(Integer.numberOfTrailingZeros(~x) + 1, MAX_LEVEL);
+    }
+
+    // Fills update[i] with the last node on level i whose data is below value and returns
+    // the level-0 successor of update[0], i.e. the first node >= value (or null)
+    private Node findPredecessors(int value) {
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && current.next[i].data < value) {
+                current = current.next[i];
+            }
+            update[i] = current;
+        }
+        return current.next[0];
+    }
+
+    // Method to insert a value at its sorted position; returns false if it was already present
+    public boolean insert(int data) {
+        Node successor = findPredecessors(data);
+        if (successor != null && successor.data == data) {
+            return false;
+        }
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                update[i] = head;
+            }
+            level = newLevel;
+        }
+        Node newNode = new Node(data, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            newNode.next[i] = update[i].next[i];
+            update[i].next[i] = newNode;
+        }
+        size++;
+        listener.onEvent(Operation.INSERT, data, size);
+        return true;
+    }
+
+    // Method to delete the smallest value (the head of level 0)
+    public void deleteAtHead() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        Node first = head.next[0];
+        // The first node is first on every level it appears on, so head links straight past it
+        for (int i = 0; i < first.next.length; i++) {
+            head.next[i] = first.next[i];
+        }
+        shrinkLevel();
+        size--;
+        listener.onEvent(Operation.DELETE_HEAD, first.data, size);
+    }
+
+    // Method to delete the largest value
+    public void deleteAtTail() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        int lastData = last();
+        unlink(lastData);
+        listener.onEvent(Operation.DELETE_TAIL, lastData, size);
+    }
+
+    // Method to delete the given value
+    public void deleteByValue(int data) {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        if (!unlink(data)) {
+            listener.onEvent(Operation.NOT_FOUND, data, size);
+            return;
+        }
+        listener.onEvent(Operation.DELETE_VALUE, data, size);
+    }
+
+    // Removes the node holding data from every level; returns false if there is none
+    private boolean unlink(int data) {
+        Node target = findPredecessors(data);
+        if (target == null || target.data != data) {
+            return false;
+        }
+        for (int i = 0; i < target.next.length; i++) {
+            update[i].next[i] = target.next[i];
+        }
+        shrinkLevel();
+        size--;
+        return true;
+    }
+
+    // Drops empty top levels after a delete
+    private void shrinkLevel() {
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    // First node whose data is >= value, or null: descends from the top level, moving right
+    // while the next node is still below value
+    private Node ceilingNode(int value) {
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && current.next[i].data < value) {
+                current = current.next[i];
+            }
+        }
+        return current.next[0];
+    }
+
+    // Method to search for a value in the list
+    public boolean search(int data) {
+        Node node = ceilingNode(data);
+        return node != null && node.data == data;
+    }
+
+    // Method to return the smallest value
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        return head.next[0].data;
+    }
+
+    // Method to return the largest value, found by staying as high up as possible
+    public int last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null) {
+                current = current.next[i];
+            }
+        }
+        return current.data;
+    }
+
+    // Method to return the largest value <= data
+    public int floor(int data) {
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && current.next[i].data <= data) {
+                current = current.next[i];
+            }
+        }
+        if (current == head) {
+            throw new NoSuchElementException("No value <= " + data + ".");
+        }
+        return current.data;
+    }
+
+    // Method to return the smallest value >= data
+    public int ceiling(int data) {
+        Node current = ceilingNode(data);
+        if (current == null) {
+            throw new NoSuchElementException("No value >= " + data + ".");
+        }
+        return current.data;
+    }
+
+    // Method to pass every value in [lo, hi] to action in ascending order.
+    // Costs O(log n) to find lo, then one level-0 link per value reported.
+    public void rangeScan(int lo, int hi, IntConsumer action) {
+        if (lo > hi) {
+            return;
+        }
+        for (Node current = ceilingNode(lo); current != null && current.data <= hi; current = current.next[0]) {
+            action.accept(current.data);
+        }
+    }
+
+    // Method to return the values in [lo, hi] in ascending order
+    public int[] rangeScan(int lo, int hi) {
+        if (lo > hi) {
+            return new int[0];
+        }
+        int[] result = new int[16];
+        int count = 0;
+        for (Node current = ceilingNode(lo); current != null && current.data <= hi; current = current.next[0]) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = current.data;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // Method to display the elements of the list (level 0)
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("List is empty.");
+            return;
+        }
+        System.out.print("List: head -> ");
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            System.out.print(current.data + " -> ");
+        }
+        System.out.println("null");
+    }
+
+    // Method to return an iterator over the elements in ascending order
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head.next[0];
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next[0];
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, in ascending order, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            action.accept(current.data);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements in ascending order
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the values, in ascending order, to path as a binary snapshot
+    // (see SnapshotWriter for the format). Only level 0 is saved.
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.SORTED_SKIP_LIST, size)) {
+            for (Node current = head.next[0]; current != null; current = current.next[0]) {
+                writer.writeInt(current.data);
+            }
+        }
+    }
+
+    // Method to rebuild a list from a snapshot written by snapshot() in O(n).
+    // The values arrive sorted, so every node is appended at the end of each of its levels
+    // instead of being searched for; the levels are drawn afresh.
+    public static SortedSkipList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.SORTED_SKIP_LIST)) {
+            SortedSkipList list = new SortedSkipList();
+            Node[] last = new Node[MAX_LEVEL]; // Last node so far on each level
+            Arrays.fill(last, list.head);
+            for (int i = 0; i < reader.size(); i++) {
+                int data = reader.readInt();
+                if (i > 0 && data <= last[0].data) {
+                    throw new IOException("Snapshot values are not strictly ascending at element " + i + ": " + path);
+                }
+                int newLevel = list.randomLevel();
+                list.level = Math.max(list.level, newLevel);
+                Node newNode = new Node(data, newLevel);
+                for (int j = 0; j < newLevel; j++) {
+                    last[j].next[j] = newNode;
+                    last[j] = newNode;
+                }
+            }
+            list.size = reader.size();
+            return list;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        SortedSkipList list = new SortedSkipList(new ConsoleListener("SortedSkipList"));
+
+        System.out.println("Is list empty? " + list.isEmpty());
+        list.display();
+
+        System.out.println("\n--- Inserting elements in any order ---");
+        int[] values = {30, 10, 50, 20, 40, 5, 45};
+        for (int value : values) {
+            list.insert(value);
+        }
+        System.out.println("Insert 20 again: " + list.insert(20)); // false, already present
+        list.display(); // 5 -> 10 -> 20 -> 30 -> 40 -> 45 -> 50
+
+        System.out.println("\n--- Searching elements ---");
+        System.out.println("Search for 40: " + list.search(40)); // true
+        System.out.println("Search for 35 (not in list): " + list.search(35)); // false
+
+        System.out.println("\n--- Ordered queries ---");
+        System.out.println("floor(35): " + list.floor(35));     // 30
+        System.out.println("ceiling(35): " + list.ceiling(35)); // 40
+        System.out.println("floor(40): " + list.floor(40));     // 40
+        System.out.println("rangeScan(10, 42): " + Arrays.toString(list.rangeScan(10, 42))); // [10, 20, 30, 40]
+        System.out.println("First: " + list.first() + ", Last: " + list.last()); // 5, 50
+        try {
+            list.floor(1);
+        } catch (NoSuchElementException e) {
+            System.out.println("floor(1): " + e.getMessage());
+        }
+
+        System.out.println("\n--- Deleting elements ---");
+        list.deleteAtHead();     // Removes 5
+        list.deleteAtTail();     // Removes 50
+        list.deleteByValue(30);
+        list.deleteByValue(99);  // Not found
+        list.display(); // 10 -> 20 -> 40 -> 45
+
+        System.out.println("\n--- Deleting remaining elements to empty the list ---");
+        while (!list.isEmpty()) {
+            list.deleteAtHead();
+        }
+        list.display();
+        list.deleteAtTail(); // Attempt to delete from empty list
+
+        System.out.println("\n--- 1,000,000 random values ---");
+        SortedSkipList big = new SortedSkipList();
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000_000; i++) {
+            big.insert(random.nextInt());
+        }
+        long start = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            if (big.search(random.nextInt())) {
+                found++;
+            }
+        }
+        System.out.println("Size: " + big.getSize() + ", 1,000,000 searches in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms (" + found + " hits)");
+
+        System.out.println("\n--- Iteration in sorted order ---");
+        SortedSkipList iterable = new SortedSkipList();
+        for (int i = 5; i >= 1; i--) {
+            iterable.insert(i);
+        }
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5, whatever the insertion order
+        System.out.println();
+        System.out.println("Range [3, 5) (stream().filter(...)): "
+                + Arrays.toString(iterable.stream().filter(x -> x >= 3 && x < 5).toArray())); // [3, 4]
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("SortedSkipList", ".snap");
+        SortedSkipList saved = new SortedSkipList();
+        for (int i = 5; i >= 1; i--) {
+            saved.insert(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        SortedSkipList restored = SortedSkipList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored floor(35): " + restored.floor(35)); // 30
+        Files.delete(snapshotFile);
+    }
+}
@@ -0,0 +1,450 @@
+package dataStructures.linkedLists;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+// Unrolled counterpart of SinglyLinkedList with the same API.
+// Each node holds a small int[] chunk instead of a single int, so a list of n elements
+// needs about n / chunkSize node objects instead of n. With 64-element chunks, a mostly
+// full node costs ~4 bytes per element instead of ~24, and search() walks contiguous
+// arrays, only chasing a pointer once per chunk.
+// Full nodes are split in half on insert; a node that falls below half full on delete
+// is merged with its successor when the two fit in one chunk.
+public class UnrolledLinkedList implements IntIterable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private Node head;            // First chunk of the list
+    private Node tail;            // Last chunk of the list
+    private int size;             // Total number of elements across all chunks
+    private final int chunkSize;  // Capacity of every node's items array
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Inner class Node: a chunk of up to chunkSize elements
+    private static class Node {
+        final int[] items;
+        int count; // Number of used slots at the start of items
+        Node next;
+
+        // Constructor for Node
+        Node(int chunkSize) {
+            items = new int[chunkSize];
+        }
+    }
+
+    // Constructor for UnrolledLinkedList with 64-element chunks
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_SIZE, OperationListener.NONE);
+    }
+
+    // Constructor for UnrolledLinkedList with the given chunk size
+    public UnrolledLinkedList(int chunkSize) {
+        this(chunkSize, OperationListener.NONE);
+    }
+
+    // Constructor for UnrolledLinkedList that reports every mutation to the given listener
+    public UnrolledLinkedList(int chunkSize, OperationListener listener) {
+        if (chunkSize < 2) {
+            throw new IllegalArgumentException("Chunk size must be at least 2.");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.chunkSize = chunkSize;
+        this.listener = listener;
+    }
+
+    // Method to check if the list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Method to get the size of the list
+    public int getSize() {
+        return size;
+    }
+
+    // Method to insert a new element at the head of the list
+    public void insertAtHead(int data) {
+        if (head == null || head.count == chunkSize) {
+            Node newNode = new Node(chunkSize);
+            newNode.next = head;
+            head = newNode;
+            if (tail == null) {
+                tail = newNode;
+            }
+        }
+        System.arraycopy(head.items, 0, head.items, 1, head.count); // Make room at slot 0
+        head.items[0] = data;
+        head.count++;
+        size++;
+        listener.onEvent(Operation.INSERT_HEAD, data, size);
+    }
+
+    // Method to insert a new element at the tail of the list
+    public void insertAtTail(int data) {
+        if (tail == null || tail.count == chunkSize) {
+            Node newNode = new Node(chunkSize);
+            if (tail == null) {
+                head = newNode;
+            } else {
+                tail.next = newNode;
+            }
+            tail = newNode;
+        }
+        tail.items[tail.count++] = data;
+        size++;
+        listener.onEvent(Operation.INSERT_TAIL, data, size);
+    }
+
+    // Method to insert a new element at a specific position (0-indexed).
+    // Like SinglyLinkedList, a position past the end inserts at the tail instead.
+    public void insertAtPosition(int data, int position) {
+        if (position < 0) {
+            listener.onEvent(Operation.INVALID_POSITION, position, size);
+            return;
+        }
+        if (position == 0) {
+            insertAtHead(data);
+            return;
+        }
+        if (position >= size) {
+            if (position > size) {
+                listener.onEvent(Operation.OUT_OF_BOUNDS, position, size);
+            }
+            insertAtTail(data);
+            return;
+        }
+
+        // Find the chunk holding the element currently at position
+        Node current = head;
+        int offset = position;
+        while (offset >= current.count) {
+            offset -= current.count;
+            current = current.next;
+        }
+
+        if (current.count == chunkSize) {
+            // Split the full chunk: its upper half moves to a new node right after it
+            Node newNode = new Node(chunkSize);
+            int half = chunkSize / 2;
+            newNode.count = chunkSize - half;
+            System.arraycopy(current.items, half, newNode.items, 0, newNode.count);
+            current.count = half;
+            newNode.next = current.next;
+            current.next = newNode;
+            if (tail == current) {
+                tail = newNode;
+            }
+            if (offset > half) {
+                offset -= half;
+                current = newNode;
+            }
+        }
+        System.arraycopy(current.items, offset, current.items, offset + 1, current.count - offset);
+        current.items[offset] = data;
+        current.count++;
+        size++;
+        listener.onEvent(Operation.INSERT_AT_POSITION, data, size);
+    }
+
+    // Method to delete the element at the head of the list
+    public void deleteAtHead() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        int deletedData = head.items[0];
+        removeAt(null, head, 0);
+        listener.onEvent(Operation.DELETE_HEAD, deletedData, size);
+    }
+
+    // Method to delete the element at the tail of the list
+    public void deleteAtTail() {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        int deletedData = tail.items[tail.count - 1];
+        if (tail.count > 1) {
+            tail.count--;
+            size--;
+        } else {
+            // The last chunk becomes empty: find its predecessor to unlink it
+            Node previous = null;
+            Node current = head;
+            while (current != tail) {
+                previous = current;
+                current = current.next;
+            }
+            removeAt(previous, tail, 0);
+        }
+        listener.onEvent(Operation.DELETE_TAIL, deletedData, size);
+    }
+
+    // Method to delete the first occurrence of the given value
+    public void deleteByValue(int data) {
+        if (isEmpty()) {
+            listener.onEvent(Operation.EMPTY, 0, size);
+            return;
+        }
+        Node previous = null;
+        Node current = head;
+        while (current != null) {
+            int[] items = current.items;
+            for (int i = 0; i < current.count; i++) {
+                if (items[i] == data) {
+                    removeAt(previous, current, i);
+                    listener.onEvent(Operation.DELETE_VALUE, data, size);
+                    return;
+                }
+            }
+            previous = current;
+            current = current.next;
+        }
+        listener.onEvent(Operation.NOT_FOUND, data, size);
+    }
+
+    // Removes items[index] from node (whose predecessor is previous), then unlinks an
+    // empty node or merges an underfull node with its successor
+    private void removeAt(Node previous, Node node, int index) {
+        System.arraycopy(node.items, index + 1, node.items, index, node.count - index - 1);
+        node.count--;
+        size--;
+
+        if (node.count == 0) {
+            if (previous == null) {
+                head = node.next;
+            } else {
+                previous.next = node.next;
+            }
+            if (tail == node) {
+                tail = previous;
+            }
+            return;
+        }
+
+        Node next = node.next;
+        if (node.count < chunkSize / 2 && next != null && node.count + next.count <= chunkSize) {
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            node.next = next.next;
+            if (tail == next) {
+                tail = node;
+            }
+        }
+    }
+
+    // Method to search for a value in the list
+    public boolean search(int data) {
+        Node current = head;
+        while (current != null) {
+            int[] items = current.items;
+            int count = current.count;
+            for (int i = 0; i < count; i++) {
+                if (items[i] == data) {
+                    return true;
+                }
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    // Method to return the number of chunk nodes currently allocated
+    public int nodeCount() {
+        int nodes = 0;
+        for (Node current = head; current != null; current = current.next) {
+            nodes++;
+        }
+        return nodes;
+    }
+
+    // Method to display the elements of the list, with | between chunks
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("List is empty.");
+            return;
+        }
+        System.out.print("List: head -> ");
+        Node current = head;
+        while (current != null) {
+            for (int i = 0; i < current.count; i++) {
+                System.out.print(current.items[i] + " ");
+            }
+            System.out.print("| ");
+            current = current.next;
+        }
+        System.out.println("null");
+    }
+
+    // Method to return an iterator over the elements from head to tail
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node node = head; // Chunk holding the next element (chunks are never empty)
+            private int index = 0;    // Slot of the next element in node.items
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = node.items[index++];
+                if (index == node.count) {
+                    node = node.next;
+                    index = 0;
+                }
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from head to tail, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (Node current = head; current != null; current = current.next) {
+            int[] items = current.items;
+            for (int i = 0; i < current.count; i++) {
+                action.accept(items[i]);
+            }
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from head to tail
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the list, from head to tail, to path as a binary snapshot
+    // (see SnapshotWriter for the format). Each chunk is written with one bulk copy.
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.UNROLLED_LINKED_LIST, size, chunkSize)) {
+            for (Node current = head; current != null; current = current.next) {
+                writer.write(current.items, 0, current.count);
+            }
+        }
+    }
+
+    // Method to rebuild a list from a snapshot written by snapshot(), with the saved chunk size.
+    // Every chunk but the last is filled completely, each with one bulk copy.
+    public static UnrolledLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.UNROLLED_LINKED_LIST)) {
+            if (reader.state(0) < 2) {
+                throw new IOException("Snapshot chunk size " + reader.state(0) + " is below 2: " + path);
+            }
+            UnrolledLinkedList list = new UnrolledLinkedList(reader.state(0));
+            int remaining = reader.size();
+            while (remaining > 0) {
+                Node newNode = new Node(list.chunkSize);
+                newNode.count = Math.min(remaining, list.chunkSize);
+                reader.read(newNode.items, 0, newNode.count);
+                if (list.tail == null) {
+                    list.head = newNode;
+                } else {
+                    list.tail.next = newNode;
+                }
+                list.tail = newNode;
+                remaining -= newNode.count;
+            }
+            list.size = reader.size();
+            return list;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        // A tiny chunk size makes the splits and merges visible
+        UnrolledLinkedList list = new UnrolledLinkedList(4, new ConsoleListener("UnrolledLinkedList"));
+
+        System.out.println("Is list empty? " + list.isEmpty());
+        list.display();
+
+        System.out.println("\n--- Inserting elements ---");
+        for (int i = 1; i <= 6; i++) {
+            list.insertAtTail(i * 10); // 10 20 30 40 | 50 60
+        }
+        list.display();
+        list.insertAtHead(5);          // 5 | 10 20 30 40 | 50 60
+        list.display();
+        list.insertAtPosition(15, 2);  // 5 | 10 15 20 | 30 40 | 50 60 (full chunk split in half)
+        list.display();
+        list.insertAtPosition(100, 50); // Out of bounds: inserted at tail
+        list.display();
+        System.out.println("Size: " + list.getSize() + ", Nodes: " + list.nodeCount());
+
+        System.out.println("\n--- Searching elements ---");
+        System.out.println("Search for 15: " + list.search(15)); // true
+        System.out.println("Search for 99 (not in list): " + list.search(99)); // false
+
+        System.out.println("\n--- Deleting elements ---");
+        list.deleteAtHead();      // Removes 5; its chunk becomes empty and is unlinked
+        list.display();
+        list.deleteByValue(15);   // 10 20 | 30 40 | 50 60 100
+        list.display();
+        list.deleteAtTail();      // Removes 100
+        list.display();
+        list.deleteByValue(99);   // Not found
+        System.out.println("Size: " + list.getSize() + ", Nodes: " + list.nodeCount());
+
+        System.out.println("\n--- Deleting remaining elements to empty the list ---");
+        while (!list.isEmpty()) {
+            list.deleteAtTail();
+        }
+        list.display();
+        list.deleteAtHead(); // Attempt to delete from empty list
+
+        System.out.println("\n--- Memory: 1,000,000 elements ---");
+        UnrolledLinkedList big = new UnrolledLinkedList();
+        for (int i = 0; i < 1_000_000; i++) {
+            big.insertAtTail(i);
+        }
+        System.out.println("Nodes: " + big.nodeCount() + " (a SinglyLinkedList would need 1000000)");
+        System.out.println("Search for 999999: " + big.search(999_999));
+
+        System.out.println("\n--- Iteration across node boundaries ---");
+        UnrolledLinkedList iterable = new UnrolledLinkedList(2);
+        for (int i = 1; i <= 5; i++) {
+            iterable.insertAtTail(i); // 1 2 | 3 4 | 5
+        }
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5
+        System.out.println();
+        System.out.println("stream().parallel().map(x -> x * 10).toArray(): "
+                + Arrays.toString(iterable.stream().parallel().map(x -> x * 10).toArray())); // [10, 20, 30, 40, 50]
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("UnrolledLinkedList", ".snap");
+        UnrolledLinkedList saved = new UnrolledLinkedList(4);
+        for (int i = 1; i <= 5; i++) {
+            saved.insertAtTail(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        UnrolledLinkedList restored = UnrolledLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        Files.delete(snapshotFile);
+    }
+}
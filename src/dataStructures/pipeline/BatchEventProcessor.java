@@ -0,0 +1,90 @@
+package dataStructures.pipeline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs one pipeline stage: waits on its barrier, hands every newly available event to the
+// handler in one batch, then publishes its own sequence once for the whole batch. Stages gated
+// on this one (and, for the last stage, the producer) wait on that sequence.
+// Start it on a thread of its own and stop it with halt(). A halt() that comes before the
+// thread reaches run() is not lost: run() then returns at once.
+public class BatchEventProcessor implements Runnable {
+
+    private final IntRingBuffer ring;
+    private final SequenceBarrier barrier;
+    private final IntEventHandler handler;
+    private final Sequence sequence;       // Highest sequence this stage has finished with
+    private static final int IDLE = 0;     // Not started, or finished after a halt
+    private static final int RUNNING = 1;
+    private static final int HALTED = 2;   // halt() called; run() returns (or will not start)
+
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+    private long batchCount;               // Batches handled; written only by the processor thread
+    private long eventCount;               // Events handled; written only by the processor thread
+
+    // Constructor for a stage that reads ring through barrier and passes each event to handler
+    public BatchEventProcessor(IntRingBuffer ring, SequenceBarrier barrier, IntEventHandler handler) {
+        if (ring == null || barrier == null || handler == null) {
+            throw new IllegalArgumentException("Ring, barrier and handler cannot be null.");
+        }
+        this.ring = ring;
+        this.barrier = barrier;
+        this.handler = handler;
+        this.sequence = new Sequence();
+    }
+
+    // Method to return this stage's sequence, for the barriers of the stages that depend on it
+    public Sequence sequence() {
+        return sequence;
+    }
+
+    // Method to return the number of batches handled; exact once the processor has stopped
+    public long batchCount() {
+        return batchCount;
+    }
+
+    // Method to return the number of events handled; exact once the processor has stopped
+    public long eventCount() {
+        return eventCount;
+    }
+
+    // Method to stop the processor after the batch it is working on
+    public void halt() {
+        state.set(HALTED);
+        barrier.alert();
+    }
+
+    @Override
+    public void run() {
+        if (!state.compareAndSet(IDLE, RUNNING)) {
+            if (state.get() == RUNNING) {
+                throw new IllegalStateException("Processor is already running.");
+            }
+            state.set(IDLE); // Halted before it started: consume the halt and return
+            return;
+        }
+        barrier.clearAlert(); // Left over from a previous halt
+        try {
+            processEvents();
+        } finally {
+            state.set(IDLE);
+        }
+    }
+
+    private void processEvents() {
+        long next = sequence.get() + 1;
+        // Checked after clearAlert(), so a halt() that raced it is still seen here
+        while (state.get() == RUNNING) {
+            long available = barrier.waitFor(next);
+            if (available < next) {
+                continue; // Alerted: the state was changed to HALTED
+            }
+            for (long current = next; current <= available; current++) {
+                handler.onEvent(ring.get(current), current, current == available);
+            }
+            sequence.set(available);
+            batchCount++;
+            eventCount += available - next + 1;
+            next = available + 1;
+        }
+    }
+}
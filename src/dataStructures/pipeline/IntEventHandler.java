@@ -0,0 +1,12 @@
+package dataStructures.pipeline;
+
+// Callback of one pipeline stage, run by a BatchEventProcessor on its own thread.
+// The processor hands over every published sequence in order; endOfBatch is true for the last
+// one of the range it found available, which is the place to flush anything batched up.
+// A stage that is the only one at its level may rewrite the slot with ring.set(sequence, ...)
+// to pass a transformed value on to the stages gated on it.
+@FunctionalInterface
+public interface IntEventHandler {
+
+    void onEvent(int value, long sequence, boolean endOfBatch);
+}
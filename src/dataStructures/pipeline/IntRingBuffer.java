@@ -0,0 +1,215 @@
+package dataStructures.pipeline;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Disruptor-style ring of preallocated int slots for one producer thread and a graph of
+// consumer stages (BatchEventProcessor), using the int[] + power-of-two mask layout of
+// CircularQueueUsingArray. Nothing is allocated per event:
+//   - the producer claims sequences with next() / next(n), writes the slots with set() and
+//     makes them visible with publish(), which is one release store for the whole claim;
+//   - each stage waits on a SequenceBarrier (the cursor, or the stages it depends on),
+//     processes everything available in one batch and publishes its own Sequence;
+//   - the producer never laps the gating sequences (normally those of the last stages).
+// Slot i holds sequence i & mask, so a slot is reused once every gating stage has passed it.
+public class IntRingBuffer {
+
+    private static final int MAX_CAPACITY = 1 << 30; // Largest power of two an int[] can hold
+
+    private final int[] slots;
+    private final int mask;                // capacity - 1
+    private final Sequence cursor;         // Highest published sequence
+    private Sequence[] gatingSequences;    // Stages the producer must not lap
+
+    // Producer-only state
+    private long claimed;                  // Highest claimed sequence
+    private long gatingCache;              // Last observed minimum of gatingSequences
+
+    // Constructor for a ring with capacity slots, rounded up to the next power of two
+    public IntRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+        }
+        int roundedCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new int[roundedCapacity];
+        this.mask = roundedCapacity - 1;
+        this.cursor = new Sequence();
+        this.gatingSequences = new Sequence[0];
+        this.claimed = Sequence.INITIAL_VALUE;
+        this.gatingCache = Sequence.INITIAL_VALUE;
+    }
+
+    // Method to return the actual (power of two) capacity of the ring
+    public int capacity() {
+        return slots.length;
+    }
+
+    // Method to return the highest published sequence
+    public long cursor() {
+        return cursor.get();
+    }
+
+    // Method to add sequences the producer must not lap; call before the producer starts
+    public void addGatingSequences(Sequence... sequences) {
+        Sequence[] combined = new Sequence[gatingSequences.length + sequences.length];
+        System.arraycopy(gatingSequences, 0, combined, 0, gatingSequences.length);
+        System.arraycopy(sequences, 0, combined, gatingSequences.length, sequences.length);
+        gatingSequences = combined;
+    }
+
+    // Method to create a barrier for a stage that reads what dependencies have finished with,
+    // or what the producer has published if there are no dependencies
+    public SequenceBarrier newBarrier(Sequence... dependencies) {
+        return new SequenceBarrier(cursor, dependencies.clone());
+    }
+
+    // Producer only: claims the next sequence, waiting while the ring is full
+    public long next() {
+        return next(1);
+    }
+
+    // Producer only: claims the next n sequences and returns the highest; the claim is
+    // claimed-n+1 .. claimed. Waits while the slowest gating stage is too far behind.
+    public long next(int n) {
+        if (n < 1 || n > slots.length) {
+            throw new IllegalArgumentException("Can only claim between 1 and " + slots.length + " sequences.");
+        }
+        long nextClaimed = claimed + n;
+        long wrapPoint = nextClaimed - slots.length; // Sequence whose slot the claim reuses
+        if (wrapPoint > gatingCache) {
+            long minimum;
+            for (int attempt = 0; wrapPoint > (minimum = Sequence.minimum(gatingSequences, claimed)); attempt++) {
+                idle(attempt);
+            }
+            gatingCache = minimum;
+        }
+        claimed = nextClaimed;
+        return nextClaimed;
+    }
+
+    // Method to write value into the slot of sequence (the producer into its claim, or a stage
+    // into the slot it is handling, for the stages behind it)
+    public void set(long sequence, int value) {
+        slots[(int) sequence & mask] = value;
+    }
+
+    // Method to read the slot of sequence
+    public int get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    // Producer only: makes every claimed sequence up to and including sequence visible to the stages
+    public void publish(long sequence) {
+        cursor.set(sequence);
+    }
+
+    // Producer only: claims one slot, writes value to it and publishes it
+    public void put(int value) {
+        long sequence = next();
+        slots[(int) sequence & mask] = value;
+        cursor.set(sequence);
+    }
+
+    // Producer only: publishes values[offset .. offset+length-1] in order, claiming and publishing
+    // up to a ring's worth at a time with at most two array copies per claim
+    public void putAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        while (length > 0) {
+            int n = Math.min(length, slots.length);
+            long last = next(n);
+            int start = (int) (last - n + 1) & mask;
+            int firstPart = Math.min(n, slots.length - start);
+            System.arraycopy(values, offset, slots, start, firstPart);
+            System.arraycopy(values, offset + firstPart, slots, 0, n - firstPart);
+            cursor.set(last);
+            offset += n;
+            length -= n;
+        }
+    }
+
+    // Backoff for a thread waiting on another sequence: spin briefly, then yield, then park
+    // for a microsecond at a time, so an idle pipeline does not keep every core busy
+    static void idle(int attempt) {
+        if (attempt < 100) {
+            Thread.onSpinWait();
+        } else if (attempt < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000);
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("--- parse -> validate -> aggregate over 10,000,000 ints ---");
+        final int count = 10_000_000;
+        final int key = 0x5A5A5A5A;
+        IntRingBuffer ring = new IntRingBuffer(4096);
+
+        // parse: decodes the raw value in place for the next stage
+        BatchEventProcessor parse = new BatchEventProcessor(ring, ring.newBarrier(),
+                (value, sequence, endOfBatch) -> ring.set(sequence, value ^ key));
+        // validate: runs after parse and replaces every value ending in 999 with -1
+        long[] rejected = new long[1];
+        BatchEventProcessor validate = new BatchEventProcessor(ring, ring.newBarrier(parse.sequence()),
+                (value, sequence, endOfBatch) -> {
+                    if (value % 1000 == 999) {
+                        ring.set(sequence, -1);
+                        rejected[0]++;
+                    }
+                });
+        // aggregate: runs after validate and sums the valid values
+        long[] sum = new long[1];
+        BatchEventProcessor aggregate = new BatchEventProcessor(ring, ring.newBarrier(validate.sequence()),
+                (value, sequence, endOfBatch) -> {
+                    if (value >= 0) {
+                        sum[0] += value;
+                    }
+                });
+        ring.addGatingSequences(aggregate.sequence()); // The producer must not overwrite unaggregated slots
+
+        Thread[] threads = {new Thread(parse, "parse"), new Thread(validate, "validate"),
+                new Thread(aggregate, "aggregate")};
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        long start = System.nanoTime();
+        int[] chunk = new int[256];
+        for (int i = 0; i < count; i += chunk.length) {
+            int n = Math.min(chunk.length, count - i);
+            for (int j = 0; j < n; j++) {
+                chunk[j] = (i + j) ^ key; // Raw, encoded input
+            }
+            ring.putAll(chunk, 0, n);
+        }
+        while (aggregate.sequence().get() < count - 1) {
+            Thread.onSpinWait(); // Wait for the last stage to drain the ring
+        }
+        long elapsed = System.nanoTime() - start;
+        parse.halt();
+        validate.halt();
+        aggregate.halt();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long expectedSum = 0;
+        for (int i = 0; i < count; i++) {
+            if (i % 1000 != 999) {
+                expectedSum += i;
+            }
+        }
+        System.out.println("Sum of valid values: " + sum[0] + " (expected " + expectedSum + ")");
+        System.out.println("Rejected: " + rejected[0]); // 10000
+        System.out.println("Events per stage: " + parse.eventCount() + ", " + validate.eventCount()
+                + ", " + aggregate.eventCount());
+        System.out.println("Average batch size of aggregate: "
+                + aggregate.eventCount() / Math.max(1, aggregate.batchCount()));
+        System.out.println("Throughput: " + (long) (count / (elapsed / 1e9)) + " ints/s");
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
@@ -0,0 +1,70 @@
+package dataStructures.pipeline;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// A position in an IntRingBuffer, owned and written by exactly one thread (the producer's
+// cursor, or one consumer's progress) and read by the others. The owner publishes with a
+// release store and readers load with acquire, so everything the owner wrote to the ring's
+// slots before publishing is visible to a reader that sees the new value.
+// The value sits on its own cache line (see the padding classes below), so sequences
+// updated by different threads do not false-share.
+public class Sequence extends SequenceValue {
+
+    public static final long INITIAL_VALUE = -1L; // Nothing published or consumed yet
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Constructor for a sequence at INITIAL_VALUE
+    public Sequence() {
+        this(INITIAL_VALUE);
+    }
+
+    // Constructor for a sequence at the given value
+    public Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    // Method to read the value with acquire semantics
+    public long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    // Method to publish a new value with release semantics; only the owning thread may call it
+    public void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    // Method to return the smallest value among sequences, or defaultValue if there are none
+    public static long minimum(Sequence[] sequences, long defaultValue) {
+        long minimum = defaultValue;
+        for (Sequence sequence : sequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
+
+// Cache-line padding: 64 bytes before the value
+abstract class SequencePadBefore {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+// The value itself, accessed through Sequence.VALUE
+abstract class SequenceValue extends SequencePadBefore {
+    long value;
+    long p10, p11, p12, p13, p14, p15, p16, p17; // Padding after the value
+}
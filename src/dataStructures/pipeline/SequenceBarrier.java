@@ -0,0 +1,54 @@
+package dataStructures.pipeline;
+
+// What a consumer stage waits on: the ring's cursor for the first stage, or the sequences of
+// the stages it depends on for the later ones. waitFor() returns the highest sequence that is
+// safe to read, which is often well past the one asked for, so a stage that fell behind
+// catches up with one batch instead of one wait per event.
+public class SequenceBarrier {
+
+    private final Sequence cursor;          // Highest sequence the producer has published
+    private final Sequence[] dependencies;  // Stages that must be done with a slot first; may be empty
+    private volatile boolean alerted;       // Set by alert() to release a waiting consumer
+
+    // Constructor for a barrier on cursor gated by dependencies (see IntRingBuffer.newBarrier)
+    SequenceBarrier(Sequence cursor, Sequence[] dependencies) {
+        this.cursor = cursor;
+        this.dependencies = dependencies;
+    }
+
+    // Method to return the highest sequence every dependency (or the producer) has finished with
+    public long available() {
+        if (dependencies.length == 0) {
+            return cursor.get();
+        }
+        return Sequence.minimum(dependencies, Long.MAX_VALUE); // Never ahead of the cursor
+    }
+
+    // Method to wait until sequence is available and return the highest available sequence.
+    // Returns a value below sequence only if the barrier was alerted while waiting.
+    public long waitFor(long sequence) {
+        long available;
+        for (int attempt = 0; (available = available()) < sequence; attempt++) {
+            if (alerted) {
+                return available;
+            }
+            IntRingBuffer.idle(attempt);
+        }
+        return available;
+    }
+
+    // Method to release any thread waiting in waitFor()
+    public void alert() {
+        alerted = true;
+    }
+
+    // Method to clear a previous alert
+    public void clearAlert() {
+        alerted = false;
+    }
+
+    // Method to check if the barrier has been alerted
+    public boolean isAlerted() {
+        return alerted;
+    }
+}
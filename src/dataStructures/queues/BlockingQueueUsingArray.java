@@ -0,0 +1,236 @@
+package dataStructures.queues;
+
+import dataStructures.common.OperationListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+// Bounded blocking queue of primitive ints for any number of producer and consumer threads.
+// The elements live in a CircularQueueUsingArray that is only touched while holding one
+// ReentrantLock. put/take wait while the queue is full/empty instead of throwing, and
+// offer/poll with a timeout give up after it; how they wait is up to the WaitStrategy.
+// Nothing here uses synchronized, so virtual threads blocked on the queue do not pin their
+// carrier threads (with the PARK and CONDITION strategies they unmount entirely).
+public class BlockingQueueUsingArray {
+
+    private final CircularQueueUsingArray queue; // Ring holding the elements, guarded by lock
+    private final ReentrantLock lock;
+    private final Condition notEmpty;            // Signalled after an enqueue
+    private final Condition notFull;             // Signalled after a dequeue
+    private final WaitStrategy waitStrategy;
+    // Copy of queue.size(), written under lock and read without it by size() and by waiters
+    // of the polling strategies, which spin, yield or park on it instead of on the lock
+    private volatile int count;
+    private final BooleanSupplier hasRoom = () -> count < capacity();
+    private final BooleanSupplier hasElement = () -> count > 0;
+
+    // Constructor to initialize the queue; capacity is rounded up to the next power of two.
+    // Blocked threads sleep on a Condition until they are signalled.
+    public BlockingQueueUsingArray(int capacity) {
+        this(capacity, WaitStrategy.CONDITION, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with the given wait strategy
+    public BlockingQueueUsingArray(int capacity, WaitStrategy waitStrategy) {
+        this(capacity, waitStrategy, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with a listener that is told about every mutation.
+    // The listener is called with the queue's lock held, from whichever thread made the change.
+    public BlockingQueueUsingArray(int capacity, WaitStrategy waitStrategy, OperationListener listener) {
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null.");
+        }
+        this.queue = new CircularQueueUsingArray(capacity, listener);
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.waitStrategy = waitStrategy;
+    }
+
+    // Method to return the actual (power of two) capacity of the queue
+    public int capacity() {
+        return queue.capacity();
+    }
+
+    // Method to return the current number of elements in the queue
+    public int size() {
+        return count;
+    }
+
+    // Method to check if the queue is empty
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Method to return the number of elements that can be added without blocking
+    public int remainingCapacity() {
+        return queue.capacity() - count;
+    }
+
+    // Adds data and wakes a consumer; the lock must be held and the queue must not be full
+    private void enqueueLocked(int data) {
+        queue.enqueue(data);
+        count = queue.size();
+        waitStrategy.signal(notEmpty);
+    }
+
+    // Removes the front element and wakes a producer; the lock must be held and the queue must not be empty
+    private int dequeueLocked() {
+        int data = queue.dequeue();
+        count = queue.size();
+        waitStrategy.signal(notFull);
+        return data;
+    }
+
+    // Method to add an element to the rear of the queue, waiting as long as it takes for room
+    public void put(int data) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isFull()) {
+                waitStrategy.await(lock, notFull, hasRoom, Long.MAX_VALUE);
+            }
+            enqueueLocked(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to add an element to the rear of the queue; returns false at once if it is full
+    public boolean offer(int data) {
+        lock.lock();
+        try {
+            if (queue.isFull()) {
+                return false;
+            }
+            enqueueLocked(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to add an element to the rear of the queue, waiting up to timeout for room.
+    // Returns false if the queue was still full when the timeout ran out.
+    public boolean offer(int data, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.isFull()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = waitStrategy.await(lock, notFull, hasRoom, nanos);
+            }
+            enqueueLocked(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to remove and return the front element, waiting as long as it takes for one
+    public int take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                waitStrategy.await(lock, notEmpty, hasElement, Long.MAX_VALUE);
+            }
+            return dequeueLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to remove and return the front element, or valueIfEmpty at once if there is none
+    public int poll(int valueIfEmpty) {
+        lock.lock();
+        try {
+            if (queue.isEmpty()) {
+                return valueIfEmpty;
+            }
+            return dequeueLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Method to remove and return the front element, waiting up to timeout for one.
+    // Returns valueIfEmpty if the queue was still empty when the timeout ran out.
+    public int poll(long timeout, TimeUnit unit, int valueIfEmpty) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0) {
+                    return valueIfEmpty;
+                }
+                nanos = waitStrategy.await(lock, notEmpty, hasElement, nanos);
+            }
+            return dequeueLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("--- Timeouts ---");
+        BlockingQueueUsingArray small = new BlockingQueueUsingArray(2);
+        small.put(1);
+        small.put(2);
+        System.out.println("offer(3) on a full queue: " + small.offer(3)); // false
+        System.out.println("offer(3, 10 ms) on a full queue: " + small.offer(3, 10, TimeUnit.MILLISECONDS)); // false
+        System.out.println("take(): " + small.take() + ", take(): " + small.take()); // 1, 2
+        System.out.println("poll(10 ms, -1) on an empty queue: " + small.poll(10, TimeUnit.MILLISECONDS, -1)); // -1
+
+        System.out.println("\n--- 2 producers and 2 consumers moving 20,000 values through 16 slots ---");
+        WaitStrategy[] strategies = {WaitStrategy.CONDITION, WaitStrategy.PARK, WaitStrategy.YIELD, WaitStrategy.SPIN};
+        String[] names = {"CONDITION", "PARK", "YIELD", "SPIN"};
+        for (int s = 0; s < strategies.length; s++) {
+            if (strategies[s] == WaitStrategy.SPIN && Runtime.getRuntime().availableProcessors() < 4) {
+                // A spinning waiter only yields its core when the OS preempts it, so with fewer
+                // cores than threads the thread it waits for barely gets to run
+                System.out.println("SPIN: skipped, needs a core per thread");
+                continue;
+            }
+            BlockingQueueUsingArray queue = new BlockingQueueUsingArray(16, strategies[s]);
+            long[] consumedSums = new long[2];
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < 2; t++) {
+                final int producer = t;
+                threads[t] = new Thread(() -> {
+                    try {
+                        for (int i = 1; i <= 10_000; i++) {
+                            queue.put(producer == 0 ? i : -i);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                final int consumer = t;
+                threads[2 + t] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 10_000; i++) {
+                            consumedSums[consumer] += queue.take();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            System.out.println(names[s] + ": sum of consumed values " + (consumedSums[0] + consumedSums[1])
+                    + " (expected 0), queue empty: " + queue.isEmpty() + ", "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+}
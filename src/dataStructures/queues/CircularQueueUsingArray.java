@@ -0,0 +1,331 @@
+package dataStructures.queues;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntArraySpliterator;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException; // For handling empty queue scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+// Ring-buffer counterpart of QueueUsingArray: dequeued slots are reused, so the queue
+// never gets "stuck" once rear reaches the end of the array.
+// The capacity is rounded up to a power of two so that a slot index is (counter & mask)
+// instead of (counter % capacity).
+public class CircularQueueUsingArray implements IntIterable {
+
+    private static final int MAX_CAPACITY = 1 << 30; // Largest power of two an int[] can hold
+
+    private final int[] arr;   // Array to store queue elements
+    private final int mask;    // capacity - 1, used to wrap the counters into array indices
+    private int head;          // Number of elements ever dequeued; head & mask is the front slot
+    private int tail;          // Number of elements ever enqueued; tail & mask is the next free slot
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the queue; capacity is rounded up to the next power of two
+    public CircularQueueUsingArray(int capacity) {
+        this(capacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with a listener that is told about every mutation
+    public CircularQueueUsingArray(int capacity, OperationListener listener) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        int roundedCapacity = roundUpToPowerOfTwo(capacity);
+        this.arr = new int[roundedCapacity];
+        this.mask = roundedCapacity - 1;
+        this.head = 0;
+        this.tail = 0;
+        this.listener = listener;
+        listener.onEvent(Operation.CREATED, roundedCapacity, 0);
+    }
+
+    // Smallest power of two that is >= value (value must be in 1..MAX_CAPACITY)
+    static int roundUpToPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    // Method to check if the queue is empty
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    // Method to check if the queue is full
+    public boolean isFull() {
+        return tail - head == arr.length;
+    }
+
+    // Method to return the current number of elements in the queue
+    public int size() {
+        // The counters may overflow, but their difference is still exact
+        return tail - head;
+    }
+
+    // Method to return the actual (power of two) capacity of the queue
+    public int capacity() {
+        return arr.length;
+    }
+
+    // Method to add an element to the rear of the queue
+    public void enqueue(int data) {
+        if (isFull()) {
+            // Throw IllegalStateException if the queue is full
+            throw new IllegalStateException("Queue is full. Cannot enqueue " + data + ".");
+        }
+        arr[tail & mask] = data;
+        tail++;
+        listener.onEvent(Operation.ENQUEUE, data, tail - head);
+    }
+
+    // Method to add an element to the rear of the queue; returns false instead of throwing when full
+    public boolean offer(int data) {
+        if (isFull()) {
+            return false;
+        }
+        arr[tail & mask] = data;
+        tail++;
+        listener.onEvent(Operation.ENQUEUE, data, tail - head);
+        return true;
+    }
+
+    // Method to remove and return the front element of the queue
+    public int dequeue() {
+        if (isEmpty()) {
+            // Throw NoSuchElementException if the queue is empty
+            throw new NoSuchElementException("Queue is empty. Cannot dequeue.");
+        }
+        int dequeuedData = arr[head & mask];
+        head++;
+        listener.onEvent(Operation.DEQUEUE, dequeuedData, tail - head);
+        return dequeuedData;
+    }
+
+    // Method to enqueue every element of values, in order
+    public void enqueueAll(int[] values) {
+        enqueueAll(values, 0, values.length);
+    }
+
+    // Method to enqueue values[offset .. offset+length-1], in order, with at most two array copies
+    // (one up to the end of the array, one for the part that wraps around).
+    // Enqueues nothing and throws IllegalStateException if they do not all fit.
+    public void enqueueAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        if (length > arr.length - (tail - head)) {
+            throw new IllegalStateException("Queue is full. Cannot enqueue " + length + " elements.");
+        }
+        int start = tail & mask;
+        int firstPart = Math.min(length, arr.length - start);
+        System.arraycopy(values, offset, arr, start, firstPart);
+        System.arraycopy(values, offset + firstPart, arr, 0, length - firstPart);
+        for (int i = offset; i < offset + length; i++) {
+            tail++;
+            listener.onEvent(Operation.ENQUEUE, values[i], tail - head);
+        }
+    }
+
+    // Method to dequeue up to max elements into dst, in queue order, with at most two array copies.
+    // Returns the number of elements dequeued, which is less than max if the queue runs out.
+    public int drainTo(int[] dst, int max) {
+        return drainTo(dst, 0, max);
+    }
+
+    // Method to dequeue up to max elements into dst[offset ..], in queue order; returns the number dequeued
+    public int drainTo(int[] dst, int offset, int max) {
+        if (offset < 0 || max < 0 || offset > dst.length - max) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + max
+                    + ") out of bounds for length " + dst.length);
+        }
+        int count = Math.min(max, tail - head);
+        int start = head & mask;
+        int firstPart = Math.min(count, arr.length - start);
+        System.arraycopy(arr, start, dst, offset, firstPart);
+        System.arraycopy(arr, 0, dst, offset + firstPart, count - firstPart);
+        for (int i = 0; i < count; i++) {
+            head++;
+            listener.onEvent(Operation.DEQUEUE, dst[offset + i], tail - head);
+        }
+        return count;
+    }
+
+    // Method to return the front element of the queue without removing it
+    public int peek() {
+        if (isEmpty()) {
+            // Throw NoSuchElementException if the queue is empty
+            throw new NoSuchElementException("Queue is empty. Cannot peek.");
+        }
+        return arr[head & mask];
+    }
+
+    // Method to return an iterator over the elements from front to rear
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int end = tail;
+            private int counter = head;
+
+            @Override
+            public boolean hasNext() {
+                return counter != end;
+            }
+
+            @Override
+            public int nextInt() {
+                if (counter == end) {
+                    throw new NoSuchElementException();
+                }
+                return arr[counter++ & mask];
+            }
+        };
+    }
+
+    // Method to pass every element, from front to rear, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (int counter = head; counter != tail; counter++) {
+            action.accept(arr[counter & mask]);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from front to rear, which splits by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntArraySpliterator(arr, head, 1, mask, tail - head);
+    }
+
+    // Method to write the queue, from front to rear, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The capacity and the head counter are saved too,
+    // so the restored queue keeps every element in the same slot. At most two bulk copies:
+    // one up to the end of the array and one for the part that wrapped around.
+    public void snapshot(Path path) throws IOException {
+        int size = tail - head;
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.CIRCULAR_QUEUE_USING_ARRAY, size,
+                arr.length, head)) {
+            int first = Math.min(size, arr.length - (head & mask));
+            writer.write(arr, head & mask, first);
+            writer.write(arr, 0, size - first);
+        }
+    }
+
+    // Method to rebuild a queue, at the same capacity and slot positions, from a snapshot
+    // written by snapshot()
+    public static CircularQueueUsingArray restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.CIRCULAR_QUEUE_USING_ARRAY)) {
+            int size = reader.size();
+            int capacity = reader.state(0);
+            if (capacity <= 0 || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1 || size > capacity) {
+                throw new IOException("Snapshot capacity " + capacity + " cannot hold " + size + " elements: " + path);
+            }
+            CircularQueueUsingArray queue = new CircularQueueUsingArray(capacity);
+            int head = reader.state(1);
+            int first = Math.min(size, capacity - (head & queue.mask));
+            reader.read(queue.arr, head & queue.mask, first);
+            reader.read(queue.arr, 0, size - first);
+            queue.head = head;
+            queue.tail = head + size;
+            return queue;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Creating a Circular Queue with requested capacity 3 (rounded up to 4) ---");
+        CircularQueueUsingArray queue = new CircularQueueUsingArray(3, new ConsoleListener("CircularQueueUsingArray"));
+        System.out.println("Capacity: " + queue.capacity()); // 4
+
+        System.out.println("\n--- Filling the queue ---");
+        for (int i = 1; i <= 4; i++) {
+            queue.enqueue(i * 10); // 10, 20, 30, 40
+        }
+        System.out.println("Is queue full? " + queue.isFull()); // true
+        System.out.println("Offer 50 to a full queue: " + queue.offer(50)); // false
+
+        System.out.println("\n--- Dequeuing two elements frees two slots at the start of the array ---");
+        System.out.println("Dequeued element: " + queue.dequeue()); // 10
+        System.out.println("Dequeued element: " + queue.dequeue()); // 20
+
+        System.out.println("\n--- Enqueuing wraps around and reuses the freed slots ---");
+        queue.enqueue(50);
+        queue.enqueue(60);
+        System.out.println("Is queue full? " + queue.isFull()); // true
+        System.out.println("Front element (peek): " + queue.peek()); // 30
+
+        System.out.println("\n--- Draining the queue ---");
+        while (!queue.isEmpty()) {
+            System.out.println("Dequeued element: " + queue.dequeue()); // 30, 40, 50, 60
+        }
+
+        System.out.println("\n--- Sustained traffic at constant memory ---");
+        CircularQueueUsingArray ring = new CircularQueueUsingArray(8);
+        long checksum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            ring.enqueue(i);
+            if (ring.size() == 8) {
+                checksum += ring.dequeue();
+            }
+        }
+        while (!ring.isEmpty()) {
+            checksum += ring.dequeue();
+        }
+        System.out.println("1,000,000 elements passed through 8 slots. Checksum: " + checksum); // 499999500000
+
+        System.out.println("\n--- Attempting to dequeue from an empty queue ---");
+        try {
+            queue.dequeue();
+        } catch (NoSuchElementException e) {
+            System.err.println("Error caught: " + e.getMessage());
+        }
+
+        System.out.println("\n--- Batch operations that wrap around the end of the array ---");
+        CircularQueueUsingArray batch = new CircularQueueUsingArray(8);
+        batch.enqueueAll(new int[]{1, 2, 3, 4, 5, 6});
+        int[] drained = new int[4];
+        System.out.println("drainTo(4) dequeued " + batch.drainTo(drained, 4) + ": " + Arrays.toString(drained)); // 4: [1, 2, 3, 4]
+        batch.enqueueAll(new int[]{7, 8, 9, 10, 11, 12}); // Slots 6, 7, then 0..3
+        drained = new int[8];
+        System.out.println("drainTo(8) dequeued " + batch.drainTo(drained, 8) + ": " + Arrays.toString(drained)); // 8: [5, 6, 7, 8, 9, 10, 11, 12]
+
+        System.out.println("\n--- Iteration over a wrapped ring ---");
+        CircularQueueUsingArray iterable = new CircularQueueUsingArray(8);
+        iterable.enqueueAll(new int[]{9, 9, 9, 9, 9, 9});
+        iterable.drainTo(new int[6], 6);
+        iterable.enqueueAll(new int[]{1, 2, 3, 4, 5}); // Slots 6, 7, then 0..2
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5
+        System.out.println();
+        // The parallel split cuts the ring by position, so the parts keep front-to-rear order
+        System.out.println("stream().parallel().toArray(): " + Arrays.toString(iterable.stream().parallel().toArray())); // [1, 2, 3, 4, 5]
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("CircularQueueUsingArray", ".snap");
+        CircularQueueUsingArray saved = new CircularQueueUsingArray(8);
+        saved.enqueueAll(new int[]{0, 0, 0, 0, 0, 0});
+        saved.drainTo(new int[6], 6);
+        saved.enqueueAll(new int[]{10, 20, 30, 40, 50}); // Wraps around the end of the array
+        saved.snapshot(snapshotFile);
+        CircularQueueUsingArray restored = CircularQueueUsingArray.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peek(): " + restored.peek()); // 10
+        Files.delete(snapshotFile);
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
@@ -0,0 +1,243 @@
+package dataStructures.queues;
+
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.NoSuchElementException; // For handling empty queue scenarios
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free multi-producer/multi-consumer counterpart of QueueUsingLinkedList
+// (Michael & Scott, "Simple, Fast, and Practical Non-Blocking and Blocking Concurrent Queue Algorithms").
+// front always points at a dummy node; the first real element is front.next.
+// enqueue links the new node with a CAS on rear.next and then swings rear forward;
+// dequeue swings front forward with a CAS. Any thread that sees rear lagging behind
+// helps move it before retrying, so no thread ever waits for another.
+public class ConcurrentQueueUsingLinkedList {
+
+    // Inner class Node to represent elements in the linked list
+    private static class Node {
+        int data;
+        volatile Node next; // Written with CAS through NEXT
+
+        // Constructor for Node
+        Node(int d) {
+            data = d;
+        }
+    }
+
+    private static final VarHandle FRONT;
+    private static final VarHandle REAR;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            FRONT = lookup.findVarHandle(ConcurrentQueueUsingLinkedList.class, "front", Node.class);
+            REAR = lookup.findVarHandle(ConcurrentQueueUsingLinkedList.class, "rear", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node front; // Dummy node; front.next is the first element
+    private volatile Node rear;  // Last node, or a node at most a few steps behind it
+    // Striped counters: cheap to update under contention, and size() only has to sum them
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dequeued = new LongAdder();
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the queue
+    public ConcurrentQueueUsingLinkedList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with a listener that is told about every mutation.
+    // The listener is called concurrently from every thread using the queue.
+    public ConcurrentQueueUsingLinkedList(OperationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
+        Node dummy = new Node(0);
+        front = dummy;
+        rear = dummy;
+        listener.onEvent(Operation.CREATED, -1, 0);
+    }
+
+    // Method to check if the queue is empty at the moment of the call
+    public boolean isEmpty() {
+        return front.next == null;
+    }
+
+    // Method to return the approximate number of elements.
+    // Exact when no other thread is mutating the queue; otherwise it may be off by the
+    // number of operations in flight, but it never walks the list.
+    public int size() {
+        long size = enqueued.sum() - dequeued.sum();
+        return size <= 0 ? 0 : (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    // Method to add an element to the rear of the queue
+    public void enqueue(int data) {
+        Node newNode = new Node(data);
+        while (true) {
+            Node currentRear = rear;
+            Node next = currentRear.next;
+            if (currentRear != rear) {
+                continue; // rear moved while we were reading it
+            }
+            if (next == null) {
+                // rear really is the last node: try to link the new node after it
+                if (NEXT.compareAndSet(currentRear, null, newNode)) {
+                    // Swing rear; if this fails another thread already helped
+                    REAR.compareAndSet(this, currentRear, newNode);
+                    break;
+                }
+            } else {
+                // rear is lagging behind: help move it forward, then retry
+                REAR.compareAndSet(this, currentRear, next);
+            }
+        }
+        enqueued.increment();
+        listener.onEvent(Operation.ENQUEUE, data, -1);
+    }
+
+    // Removes the first element by swinging front to its node, which becomes the new dummy;
+    // returns that node, or null when the queue is empty. The node's data is never written
+    // again (nodes are not reused), so the caller can still read it after the CAS.
+    private Node pollNode() {
+        while (true) {
+            Node currentFront = front;
+            Node currentRear = rear;
+            Node next = currentFront.next;
+            if (currentFront != front) {
+                continue; // front moved while we were reading it
+            }
+            if (currentFront == currentRear) {
+                if (next == null) {
+                    return null;
+                }
+                // An enqueue is half done: help move rear forward, then retry
+                REAR.compareAndSet(this, currentRear, next);
+            } else if (FRONT.compareAndSet(this, currentFront, next)) {
+                // next is the new dummy; the old dummy becomes garbage
+                return next;
+            }
+        }
+    }
+
+    // Method to remove and return the front element, or valueIfEmpty when there is none
+    public int poll(int valueIfEmpty) {
+        Node polled = pollNode();
+        if (polled == null) {
+            return valueIfEmpty;
+        }
+        dequeued.increment();
+        listener.onEvent(Operation.DEQUEUE, polled.data, -1);
+        return polled.data;
+    }
+
+    // Method to remove and return the front element of the queue
+    public int dequeue() {
+        Node polled = pollNode();
+        if (polled == null) {
+            // Throw NoSuchElementException if the queue is empty
+            throw new NoSuchElementException("Queue is empty. Cannot dequeue.");
+        }
+        dequeued.increment();
+        listener.onEvent(Operation.DEQUEUE, polled.data, -1);
+        return polled.data;
+    }
+
+    // Method to return the front element of the queue without removing it
+    public int peek() {
+        Node first = front.next;
+        if (first == null) {
+            // Throw NoSuchElementException if the queue is empty
+            throw new NoSuchElementException("Queue is empty. Cannot peek.");
+        }
+        return first.data;
+    }
+
+    // Main method for demonstration: a linearizability stress test.
+    // Each producer enqueues (producerId, sequence) pairs in increasing order. A linearizable
+    // FIFO queue must hand out every pair exactly once, and every consumer must see each
+    // producer's sequences in increasing order.
+    public static void main(String[] args) throws InterruptedException {
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 250_000;
+        final int total = producers * perProducer;
+
+        System.out.println("--- Stress test: " + producers + " producers, " + consumers + " consumers, "
+                + total + " elements ---");
+        ConcurrentQueueUsingLinkedList queue = new ConcurrentQueueUsingLinkedList();
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger remaining = new AtomicInteger(total);
+        AtomicInteger orderViolations = new AtomicInteger();
+
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            final int producerId = p;
+            threads[p] = new Thread(() -> {
+                for (int seq = 0; seq < perProducer; seq++) {
+                    queue.enqueue(producerId * perProducer + seq);
+                }
+            }, "producer-" + p);
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                int[] lastSeq = new int[producers];
+                Arrays.fill(lastSeq, -1);
+                while (remaining.get() > 0) {
+                    int value = queue.poll(-1);
+                    if (value == -1) {
+                        Thread.yield();
+                        continue;
+                    }
+                    remaining.decrementAndGet();
+                    seen.incrementAndGet(value);
+                    int producerId = value / perProducer;
+                    int seq = value % perProducer;
+                    if (seq <= lastSeq[producerId]) {
+                        orderViolations.incrementAndGet();
+                    }
+                    lastSeq[producerId] = seq;
+                }
+            }, "consumer-" + c);
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int missing = 0;
+        int duplicated = 0;
+        for (int i = 0; i < total; i++) {
+            if (seen.get(i) == 0) {
+                missing++;
+            } else if (seen.get(i) > 1) {
+                duplicated++;
+            }
+        }
+        System.out.println("Finished in " + elapsed / 1_000_000 + " ms");
+        System.out.println("Missing elements: " + missing);               // 0
+        System.out.println("Duplicated elements: " + duplicated);         // 0
+        System.out.println("Per-producer order violations: " + orderViolations.get()); // 0
+        System.out.println("Is queue empty? " + queue.isEmpty() + ", Size: " + queue.size()); // true, 0
+        System.out.println(missing == 0 && duplicated == 0 && orderViolations.get() == 0 ? "PASSED" : "FAILED");
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
@@ -0,0 +1,355 @@
+package dataStructures.queues;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntArraySpliterator;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException; // For handling empty deque scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+// Double-ended queue of ints on one growable ring buffer: used from the last end only it is
+// a stack (StackUsingArray), used from both ends it is a queue (QueueUsingArray), so one
+// array can serve a workload that needs both.
+// The layout is that of CircularQueueUsingArray: a power-of-two int[] indexed by
+// (counter & mask), where head counts down on addFirst and tail counts up on addLast.
+// Growth and shrinking follow GrowableStackUsingArray: the array doubles when full and
+// halves at 1/4 occupancy, never below the initial capacity. A resize copies the elements
+// with at most two arraycopy calls (the part up to the end of the old array and the part
+// that wrapped around) into the start of the new one, keeping their order.
+// Each element costs 4 bytes of the array, against a 24-byte node (12-byte header, the int
+// and two compressed references) per element in DoublyLinkedList.
+public class DequeUsingArray implements IntIterable {
+
+    private static final int MAX_CAPACITY = 1 << 30; // Largest power of two an int[] can hold
+
+    private int[] arr;               // Array to store deque elements
+    private int mask;                // arr.length - 1, used to wrap the counters into array indices
+    private int head;                // head & mask is the first slot; decremented by addFirst
+    private int tail;                // tail & mask is the slot after the last; incremented by addLast
+    private final int minCapacity;   // Initial (rounded) capacity; the array never shrinks below it
+    private int growCount;           // Number of times the array was doubled
+    private int shrinkCount;         // Number of times the array was halved
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the deque; the initial capacity is rounded up to the next power of two
+    public DequeUsingArray(int initialCapacity) {
+        this(initialCapacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the deque with a listener that is told about every mutation
+    public DequeUsingArray(int initialCapacity, OperationListener listener) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        int roundedCapacity = CircularQueueUsingArray.roundUpToPowerOfTwo(initialCapacity);
+        this.arr = new int[roundedCapacity];
+        this.mask = roundedCapacity - 1;
+        this.head = 0;
+        this.tail = 0;
+        this.minCapacity = roundedCapacity;
+        this.listener = listener;
+        listener.onEvent(Operation.CREATED, roundedCapacity, 0);
+    }
+
+    // Method to check if the deque is empty
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    // Method to return the current number of elements in the deque
+    public int size() {
+        // The counters may overflow, but their difference is still exact
+        return tail - head;
+    }
+
+    // Method to return the current length of the backing array
+    public int capacity() {
+        return arr.length;
+    }
+
+    // Method to return how many times the array was doubled
+    public int growCount() {
+        return growCount;
+    }
+
+    // Method to return how many times the array was halved
+    public int shrinkCount() {
+        return shrinkCount;
+    }
+
+    // Method to add an element in front of the first one, doubling the array if it is full
+    public void addFirst(int data) {
+        if (tail - head == arr.length) {
+            grow();
+        }
+        arr[--head & mask] = data;
+        listener.onEvent(Operation.INSERT_HEAD, data, tail - head);
+    }
+
+    // Method to add an element after the last one, doubling the array if it is full
+    public void addLast(int data) {
+        if (tail - head == arr.length) {
+            grow();
+        }
+        arr[tail++ & mask] = data;
+        listener.onEvent(Operation.INSERT_TAIL, data, tail - head);
+    }
+
+    // Method to remove and return the first element, halving the array at 1/4 occupancy
+    public int pollFirst() {
+        if (isEmpty()) {
+            // Throw NoSuchElementException if the deque is empty
+            throw new NoSuchElementException("Deque is empty. Cannot poll first.");
+        }
+        int data = arr[head++ & mask];
+        shrinkIfSparse();
+        listener.onEvent(Operation.DELETE_HEAD, data, tail - head);
+        return data;
+    }
+
+    // Method to remove and return the first element, or valueIfEmpty if the deque is empty
+    public int pollFirst(int valueIfEmpty) {
+        return isEmpty() ? valueIfEmpty : pollFirst();
+    }
+
+    // Method to remove and return the last element, halving the array at 1/4 occupancy
+    public int pollLast() {
+        if (isEmpty()) {
+            // Throw NoSuchElementException if the deque is empty
+            throw new NoSuchElementException("Deque is empty. Cannot poll last.");
+        }
+        int data = arr[--tail & mask];
+        shrinkIfSparse();
+        listener.onEvent(Operation.DELETE_TAIL, data, tail - head);
+        return data;
+    }
+
+    // Method to remove and return the last element, or valueIfEmpty if the deque is empty
+    public int pollLast(int valueIfEmpty) {
+        return isEmpty() ? valueIfEmpty : pollLast();
+    }
+
+    // Method to return the first element without removing it
+    public int peekFirst() {
+        if (isEmpty()) {
+            // Throw NoSuchElementException if the deque is empty
+            throw new NoSuchElementException("Deque is empty. Cannot peek first.");
+        }
+        return arr[head & mask];
+    }
+
+    // Method to return the last element without removing it
+    public int peekLast() {
+        if (isEmpty()) {
+            // Throw NoSuchElementException if the deque is empty
+            throw new NoSuchElementException("Deque is empty. Cannot peek last.");
+        }
+        return arr[(tail - 1) & mask];
+    }
+
+    private void grow() {
+        if (arr.length == MAX_CAPACITY) {
+            // Throw IllegalStateException if the array cannot grow any further
+            throw new IllegalStateException("Deque cannot grow beyond " + MAX_CAPACITY + " elements.");
+        }
+        resize(arr.length * 2);
+        growCount++;
+    }
+
+    private void shrinkIfSparse() {
+        if (tail - head <= arr.length / 4 && arr.length / 2 >= minCapacity) {
+            resize(arr.length / 2);
+            shrinkCount++;
+        }
+    }
+
+    // Moves the elements, first to last, to the start of a new array of newCapacity slots
+    private void resize(int newCapacity) {
+        int size = tail - head;
+        int start = head & mask;
+        int firstPart = Math.min(size, arr.length - start);
+        int[] newArr = new int[newCapacity];
+        System.arraycopy(arr, start, newArr, 0, firstPart);
+        System.arraycopy(arr, 0, newArr, firstPart, size - firstPart);
+        arr = newArr;
+        mask = newCapacity - 1;
+        head = 0;
+        tail = size;
+    }
+
+    // Method to return an iterator over the elements from first to last
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int[] elements = arr;
+            private final int slotMask = mask;
+            private final int end = tail;
+            private int counter = head;
+
+            @Override
+            public boolean hasNext() {
+                return counter != end;
+            }
+
+            @Override
+            public int nextInt() {
+                if (counter == end) {
+                    throw new NoSuchElementException();
+                }
+                return elements[counter++ & slotMask];
+            }
+        };
+    }
+
+    // Method to pass every element, from first to last, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        int[] elements = arr;
+        for (int counter = head; counter != tail; counter++) {
+            action.accept(elements[counter & mask]);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from first to last, which splits by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntArraySpliterator(arr, head, 1, mask, tail - head);
+    }
+
+    // Method to write the deque, from first to last, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The array length and minimum capacity are saved too.
+    public void snapshot(Path path) throws IOException {
+        int size = tail - head;
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.DEQUE_USING_ARRAY, size,
+                arr.length, minCapacity)) {
+            int first = Math.min(size, arr.length - (head & mask));
+            writer.write(arr, head & mask, first);
+            writer.write(arr, 0, size - first);
+        }
+    }
+
+    // Method to rebuild a deque, at its saved array length, from a snapshot written by snapshot().
+    // The elements start at slot 0 of the restored array.
+    public static DequeUsingArray restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.DEQUE_USING_ARRAY)) {
+            int size = reader.size();
+            int length = reader.state(0);
+            int minCapacity = reader.state(1);
+            if (minCapacity <= 0 || Integer.bitCount(minCapacity) != 1 || length > MAX_CAPACITY
+                    || Integer.bitCount(length) != 1 || length < Math.max(size, minCapacity)) {
+                throw new IOException("Snapshot array length " + length + " cannot hold " + size
+                        + " elements: " + path);
+            }
+            DequeUsingArray deque = new DequeUsingArray(minCapacity);
+            deque.arr = new int[length];
+            deque.mask = length - 1;
+            reader.read(deque.arr, 0, size);
+            deque.tail = size;
+            return deque;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Creating a deque with initial capacity 4 ---");
+        DequeUsingArray deque = new DequeUsingArray(4, new ConsoleListener("DequeUsingArray"));
+
+        System.out.println("\n--- Adding at both ends ---");
+        deque.addLast(20);
+        deque.addLast(30);
+        deque.addFirst(10); // Wraps to the last slot of the array
+        System.out.println("First: " + deque.peekFirst() + ", last: " + deque.peekLast()); // 10, 30
+
+        System.out.println("\n--- Growing while wrapped around keeps the order ---");
+        deque.addFirst(0);
+        deque.addLast(40); // Full at 4: doubles to 8
+        System.out.print("Elements: ");
+        deque.forEach(value -> System.out.print(value + " ")); // 0 10 20 30 40
+        System.out.println();
+        System.out.println("Capacity: " + deque.capacity() + ", grow count: " + deque.growCount()); // 8, 1
+
+        System.out.println("\n--- Polling from both ends ---");
+        System.out.println("pollFirst(): " + deque.pollFirst()); // 0
+        System.out.println("pollLast(): " + deque.pollLast());   // 40
+        System.out.println("pollLast(): " + deque.pollLast());   // 30, size 2 of 8: halves to 4
+        System.out.println("Capacity: " + deque.capacity() + ", shrink count: " + deque.shrinkCount()); // 4, 1
+
+        System.out.println("\n--- Used as a stack (last end only) and as a queue (add last, poll first) ---");
+        DequeUsingArray work = new DequeUsingArray(16);
+        for (int i = 1; i <= 5; i++) {
+            work.addLast(i);
+        }
+        System.out.println("Stack order, pollLast(): " + work.pollLast() + " " + work.pollLast()); // 5 4
+        System.out.println("Queue order, pollFirst(): " + work.pollFirst() + " " + work.pollFirst()); // 1 2
+
+        System.out.println("\n--- Sustained traffic at both ends ---");
+        DequeUsingArray ring = new DequeUsingArray(8);
+        long checksum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            if ((i & 1) == 0) {
+                ring.addFirst(i);
+            } else {
+                ring.addLast(i);
+            }
+            if (ring.size() == 8) {
+                checksum += ring.pollFirst() + ring.pollLast();
+            }
+        }
+        while (!ring.isEmpty()) {
+            checksum += ring.pollLast();
+        }
+        System.out.println("1,000,000 elements, capacity " + ring.capacity() + ". Checksum: " + checksum); // 8, 499999500000
+
+        System.out.println("\n--- Attempting to poll from an empty deque ---");
+        DequeUsingArray empty = new DequeUsingArray(1);
+        System.out.println("pollFirst(-1): " + empty.pollFirst(-1)); // -1
+        try {
+            empty.pollLast();
+        } catch (NoSuchElementException e) {
+            System.err.println("Error caught: " + e.getMessage());
+        }
+
+        System.out.println("\n--- Iteration from first to last ---");
+        DequeUsingArray iterable = new DequeUsingArray(8);
+        for (int i = 3; i >= 1; i--) {
+            iterable.addFirst(i); // Slots 7, 6, 5: wraps around the end of the array
+        }
+        iterable.addLast(4);
+        iterable.addLast(5);
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5
+        System.out.println();
+        System.out.println("stream().findFirst() is peekFirst(): " + iterable.stream().findFirst().getAsInt() + " == " + iterable.peekFirst()); // 1 == 1
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("DequeUsingArray", ".snap");
+        DequeUsingArray saved = new DequeUsingArray(4);
+        saved.addLast(30);
+        saved.addFirst(20);
+        saved.addFirst(10); // Wraps around the end of the array
+        saved.addLast(40);
+        saved.addLast(50); // Grows to 8
+        saved.snapshot(snapshotFile);
+        DequeUsingArray restored = DequeUsingArray.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peekFirst(): " + restored.peekFirst() + ", peekLast(): " + restored.peekLast()); // 10, 50
+        Files.delete(snapshotFile);
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
@@ -1,26 +1,52 @@
 package dataStructures.queues;
 
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntArraySpliterator;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.NoSuchElementException; // For handling empty queue scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
-public class QueueUsingArray {
+public class QueueUsingArray implements IntIterable {
 
     private int[] arr;        // Array to store queue elements
     private int front;        // Index of the front element
     private int rear;         // Index of the rear element
     private int capacity;     // Maximum capacity of the queue
     private int currentSize;  // Current number of elements in the queue
+    private final OperationListener listener; // Notified of every mutation; no-op by default
 
     // Constructor to initialize the queue
     public QueueUsingArray(int capacity) {
+        this(capacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with a listener that is told about every mutation
+    public QueueUsingArray(int capacity, OperationListener listener) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be positive.");
         }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
         this.capacity = capacity;
         this.arr = new int[capacity];
         this.front = 0;       // Front is at the beginning of the array
         this.rear = -1;       // Rear is -1 as the queue is initially empty
         this.currentSize = 0; // Queue is initially empty
-        System.out.println("Linear Queue created with capacity: " + capacity);
+        listener.onEvent(Operation.CREATED, capacity, 0);
     }
 
     // Method to check if the queue is empty
@@ -49,7 +75,7 @@ public class QueueUsingArray {
         rear = rear + 1; // Increment rear. For the first element, rear becomes 0.
         arr[rear] = data;
         currentSize++;
-        System.out.println(data + " enqueued. Front: " + front + ", Rear: " + rear + ", Size: " + currentSize);
+        listener.onEvent(Operation.ENQUEUE, data, currentSize);
     }
 
     // Method to remove and return the front element of the queue
@@ -63,7 +89,7 @@ public class QueueUsingArray {
         // The space of dequeued elements is not reused in this simple linear queue.
         front = front + 1;
         currentSize--;
-        System.out.println(dequeuedData + " dequeued. Front: " + front + ", Rear: " + rear + ", Size: " + currentSize);
+        listener.onEvent(Operation.DEQUEUE, dequeuedData, currentSize);
         
         // Optional: If all elements are dequeued, reset pointers to save space
         // for potential (but unlikely in this simple linear model) reuse or just for clarity.
@@ -77,11 +103,63 @@ public class QueueUsingArray {
              // after becoming full and then empty without being circular.
             this.front = 0;
             this.rear = -1;
-            System.out.println("Queue became empty, pointers reset. Front: " + this.front + ", Rear: " + this.rear);
+            listener.onEvent(Operation.RESET, 0, currentSize);
         }
         return dequeuedData;
     }
 
+    // Method to enqueue every element of values, in order
+    public void enqueueAll(int[] values) {
+        enqueueAll(values, 0, values.length);
+    }
+
+    // Method to enqueue values[offset .. offset+length-1], in order, with one array copy.
+    // Like enqueue, this linear queue only appends after rear, so the elements must fit in the
+    // slots past rear; otherwise nothing is enqueued and IllegalStateException is thrown.
+    public void enqueueAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        if (length > capacity - 1 - rear) {
+            throw new IllegalStateException("Queue is full. Cannot enqueue " + length + " elements.");
+        }
+        System.arraycopy(values, offset, arr, rear + 1, length);
+        for (int i = 0; i < length; i++) {
+            rear++;
+            currentSize++;
+            listener.onEvent(Operation.ENQUEUE, arr[rear], currentSize);
+        }
+    }
+
+    // Method to dequeue up to max elements into dst, in queue order, with one array copy.
+    // Returns the number of elements dequeued, which is less than max if the queue runs out.
+    public int drainTo(int[] dst, int max) {
+        return drainTo(dst, 0, max);
+    }
+
+    // Method to dequeue up to max elements into dst[offset ..], in queue order; returns the number dequeued
+    public int drainTo(int[] dst, int offset, int max) {
+        if (offset < 0 || max < 0 || offset > dst.length - max) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + max
+                    + ") out of bounds for length " + dst.length);
+        }
+        int count = Math.min(max, currentSize);
+        System.arraycopy(arr, front, dst, offset, count);
+        for (int i = 0; i < count; i++) {
+            front++;
+            currentSize--;
+            listener.onEvent(Operation.DEQUEUE, dst[offset + i], currentSize);
+        }
+        if (count > 0 && isEmpty()) {
+            // Reset pointers to initial state when queue becomes completely empty, as dequeue does
+            this.front = 0;
+            this.rear = -1;
+            listener.onEvent(Operation.RESET, 0, currentSize);
+        }
+        return count;
+    }
+
     // Method to return the front element of the queue without removing it
     public int peek() {
         if (isEmpty()) {
@@ -91,10 +169,78 @@ public class QueueUsingArray {
         return arr[front];
     }
 
+    // Method to return an iterator over the elements from front to rear
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int[] elements = arr;
+            private final int last = rear;
+            private int index = front;
+
+            @Override
+            public boolean hasNext() {
+                return index <= last;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index > last) {
+                    throw new NoSuchElementException();
+                }
+                return elements[index++];
+            }
+        };
+    }
+
+    // Method to pass every element, from front to rear, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        int[] elements = arr;
+        for (int i = front; i <= rear; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from front to rear, which splits by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return IntArraySpliterator.forward(arr, front, rear + 1);
+    }
+
+    // Method to write the queue, from front to rear, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The capacity and the front index are saved too,
+    // so the restored queue has the same free slots after rear.
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.QUEUE_USING_ARRAY, currentSize,
+                capacity, front)) {
+            writer.write(arr, front, currentSize);
+        }
+    }
+
+    // Method to rebuild a queue, at the same capacity and front index, from a snapshot written
+    // by snapshot(). The elements are read back into place with one bulk copy.
+    public static QueueUsingArray restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.QUEUE_USING_ARRAY)) {
+            int size = reader.size();
+            int capacity = reader.state(0);
+            int front = reader.state(1);
+            if (capacity <= 0 || front < 0 || front > capacity - size) {
+                throw new IOException("Snapshot front " + front + " and size " + size
+                        + " do not fit capacity " + capacity + ": " + path);
+            }
+            QueueUsingArray queue = new QueueUsingArray(capacity);
+            reader.read(queue.arr, front, size);
+            queue.front = front;
+            queue.rear = front + size - 1;
+            queue.currentSize = size;
+            return queue;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("--- Creating a Linear Queue with capacity 3 ---");
-        QueueUsingArray queue = new QueueUsingArray(3);
+        QueueUsingArray queue = new QueueUsingArray(3, new ConsoleListener("QueueUsingArray"));
 
         System.out.println("\n--- Testing isEmpty() and isFull() on new queue ---");
         System.out.println("Is queue empty? " + queue.isEmpty()); // true
@@ -189,7 +335,7 @@ public class QueueUsingArray {
         // which allows reuse from the beginning.
         
         System.out.println("Re-initializing queue for clarity on linear behavior after empty and reset.");
-        queue = new QueueUsingArray(2);
+        queue = new QueueUsingArray(2, new ConsoleListener("QueueUsingArray"));
         queue.enqueue(100); // F:0, R:0
         queue.enqueue(200); // F:0, R:1 (Queue is full)
         System.out.println("Is queue full? " + queue.isFull()); // true
@@ -206,7 +352,7 @@ public class QueueUsingArray {
         // Let's test this specific scenario.
 
         System.out.println("\n--- Testing Linear Queue 'Stuck' Rear Phenomenon (if not reset) ---");
-        QueueUsingArray q2 = new QueueUsingArray(2); // Capacity 2
+        QueueUsingArray q2 = new QueueUsingArray(2, new ConsoleListener("QueueUsingArray")); // Capacity 2
         q2.enqueue(1); // F:0, R:0, Size:1. arr:[1, _]
         q2.enqueue(2); // F:0, R:1, Size:2. arr:[1, 2]. Queue is full. Rear is at capacity-1.
         
@@ -253,6 +399,40 @@ public class QueueUsingArray {
              System.err.println("Error caught (IllegalStateException): " + e.getMessage());
         }
         
+        System.out.println("\n--- Batch operations ---");
+        QueueUsingArray batch = new QueueUsingArray(8);
+        batch.enqueueAll(new int[]{1, 2, 3, 4, 5});
+        int[] drained = new int[3];
+        System.out.println("drainTo(3) dequeued " + batch.drainTo(drained, 3) + ": " + Arrays.toString(drained)); // 3: [1, 2, 3]
+        try {
+            batch.enqueueAll(new int[4]); // Only 3 slots left after rear: nothing is enqueued
+        } catch (IllegalStateException e) {
+            System.err.println("Error caught: " + e.getMessage());
+        }
+        System.out.println("drainTo(10) dequeued " + batch.drainTo(new int[10], 10) + ", Queue size: " + batch.size()); // 2, 0
+
+        System.out.println("\n--- Iteration from front to rear ---");
+        QueueUsingArray iterable = new QueueUsingArray(8);
+        iterable.enqueueAll(new int[]{1, 2, 3, 4, 5});
+        iterable.dequeue(); // front moves to index 1
+        System.out.print("forEach after one dequeue: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 2 3 4 5
+        System.out.println();
+        System.out.println("stream().findFirst() is the front: " + iterable.stream().findFirst().getAsInt()); // 2
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("QueueUsingArray", ".snap");
+        QueueUsingArray saved = new QueueUsingArray(8);
+        saved.enqueueAll(new int[]{5, 10, 20, 30, 40, 50});
+        saved.dequeue(); // front is now 1
+        saved.snapshot(snapshotFile);
+        QueueUsingArray restored = QueueUsingArray.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peek(): " + restored.peek()); // 10
+        Files.delete(snapshotFile);
+
         System.out.println("\n--- Demonstration finished ---");
     }
 }
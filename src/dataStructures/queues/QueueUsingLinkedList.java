@@ -1,8 +1,26 @@
 package dataStructures.queues;
 
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.NodePool;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.PoolStats;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.NoSuchElementException; // For handling empty queue scenarios
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
 
-public class QueueUsingLinkedList {
+public class QueueUsingLinkedList implements IntIterable {
 
     // Inner class Node to represent elements in the linked list
     private static class Node {
@@ -19,13 +37,31 @@ public class QueueUsingLinkedList {
     private Node front; // Points to the front of the queue
     private Node rear;  // Points to the rear of the queue
     private int size;   // Current number of elements in the queue
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+    private final NodePool<Node> pool;        // Dequeued nodes kept for reuse by enqueue; off by default
 
     // Constructor to initialize the queue
     public QueueUsingLinkedList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with a listener that is told about every mutation
+    public QueueUsingLinkedList(OperationListener listener) {
+        this(listener, 0);
+    }
+
+    // Constructor to initialize the queue with a listener and a pool that keeps up to
+    // poolCapacity dequeued nodes for later enqueues (0 turns pooling off)
+    public QueueUsingLinkedList(OperationListener listener, int poolCapacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
+        this.pool = new NodePool<>(poolCapacity, Node::new, (node, data) -> node.data = data, node -> node.next = null);
         front = null;
         rear = null;
         size = 0;
-        System.out.println("Queue created using LinkedList.");
+        listener.onEvent(Operation.CREATED, -1, 0);
     }
 
     // Method to check if the queue is empty
@@ -40,7 +76,7 @@ public class QueueUsingLinkedList {
 
     // Method to add an element to the rear of the queue
     public void enqueue(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         if (isEmpty()) {
             // If the queue is empty, the new node is both front and rear
             front = newNode;
@@ -51,7 +87,7 @@ public class QueueUsingLinkedList {
             rear = newNode;
         }
         size++;
-        System.out.println(data + " enqueued. Front: " + (front != null ? front.data : "null") + ", Rear: " + (rear != null ? rear.data : "null") + ", Size: " + size);
+        listener.onEvent(Operation.ENQUEUE, data, size);
     }
 
     // Method to remove and return the front element of the queue
@@ -60,18 +96,86 @@ public class QueueUsingLinkedList {
             // Throw NoSuchElementException if the queue is empty
             throw new NoSuchElementException("Queue is empty. Cannot dequeue.");
         }
-        int dequeuedData = front.data; // Get data from the front node
-        front = front.next;            // Move front to the next node
+        Node dequeued = front;
+        int dequeuedData = dequeued.data; // Get data from the front node
+        front = dequeued.next;            // Move front to the next node
+        pool.release(dequeued);
         size--;
 
         // If the queue becomes empty after dequeuing, rear should also be null
         if (isEmpty()) {
             rear = null;
         }
-        System.out.println(dequeuedData + " dequeued. Front: " + (front != null ? front.data : "null") + ", Rear: " + (rear != null ? rear.data : "null") + ", Size: " + size);
+        listener.onEvent(Operation.DEQUEUE, dequeuedData, size);
         return dequeuedData;
     }
 
+    // Method to enqueue every element of values, in order
+    public void enqueueAll(int[] values) {
+        enqueueAll(values, 0, values.length);
+    }
+
+    // Method to enqueue values[offset .. offset+length-1], in order.
+    // The new nodes are chained together first and linked to the rear once.
+    public void enqueueAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        if (length == 0) {
+            return;
+        }
+        Node first = pool.acquire(values[offset]);
+        Node last = first;
+        for (int i = offset + 1; i < offset + length; i++) {
+            Node newNode = pool.acquire(values[i]);
+            last.next = newNode;
+            last = newNode;
+        }
+        if (isEmpty()) {
+            front = first;
+        } else {
+            rear.next = first;
+        }
+        rear = last;
+        for (int i = offset; i < offset + length; i++) {
+            size++;
+            listener.onEvent(Operation.ENQUEUE, values[i], size);
+        }
+    }
+
+    // Method to dequeue up to max elements into dst, in queue order.
+    // Returns the number of elements dequeued, which is less than max if the queue runs out.
+    public int drainTo(int[] dst, int max) {
+        return drainTo(dst, 0, max);
+    }
+
+    // Method to dequeue up to max elements into dst[offset ..], in queue order; returns the number dequeued.
+    // The dequeued nodes are read in one walk and front is moved once.
+    public int drainTo(int[] dst, int offset, int max) {
+        if (offset < 0 || max < 0 || offset > dst.length - max) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + max
+                    + ") out of bounds for length " + dst.length);
+        }
+        int count = Math.min(max, size);
+        Node current = front;
+        for (int i = 0; i < count; i++) {
+            dst[offset + i] = current.data;
+            Node next = current.next;
+            pool.release(current);
+            current = next;
+        }
+        front = current;
+        if (front == null) {
+            rear = null;
+        }
+        for (int i = 0; i < count; i++) {
+            size--;
+            listener.onEvent(Operation.DEQUEUE, dst[offset + i], size);
+        }
+        return count;
+    }
+
     // Method to return the front element of the queue without removing it
     public int peek() {
         if (isEmpty()) {
@@ -81,10 +185,80 @@ public class QueueUsingLinkedList {
         return front.data;
     }
 
+    // Method to return the hit, miss and size counters of the node pool
+    public PoolStats poolStats() {
+        return pool.stats();
+    }
+
+    // Method to return an iterator over the elements from front to rear
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = front;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from front to rear, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (Node current = front; current != null; current = current.next) {
+            action.accept(current.data);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from front to rear
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the queue, from front to rear, to path as a binary snapshot
+    // (see SnapshotWriter for the format)
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.QUEUE_USING_LINKED_LIST, size)) {
+            for (Node current = front; current != null; current = current.next) {
+                writer.writeInt(current.data);
+            }
+        }
+    }
+
+    // Method to rebuild a queue from a snapshot written by snapshot(), linking the nodes in one pass
+    public static QueueUsingLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.QUEUE_USING_LINKED_LIST)) {
+            QueueUsingLinkedList queue = new QueueUsingLinkedList();
+            for (int i = 0; i < reader.size(); i++) {
+                Node newNode = new Node(reader.readInt());
+                if (queue.rear == null) {
+                    queue.front = newNode;
+                } else {
+                    queue.rear.next = newNode;
+                }
+                queue.rear = newNode;
+            }
+            queue.size = reader.size();
+            return queue;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("--- Creating a Queue using LinkedList ---");
-        QueueUsingLinkedList queue = new QueueUsingLinkedList();
+        QueueUsingLinkedList queue = new QueueUsingLinkedList(new ConsoleListener("QueueUsingLinkedList"));
 
         System.out.println("\n--- Testing isEmpty() on new queue ---");
         System.out.println("Is queue empty? " + queue.isEmpty()); // true
@@ -169,6 +343,47 @@ public class QueueUsingLinkedList {
         System.out.println("Dequeued: " + queue.dequeue()); // Dequeue 200. Front: null, Rear: null
         System.out.println("Is queue empty? " + queue.isEmpty()); // true
 
+        System.out.println("\n--- Batch operations ---");
+        QueueUsingLinkedList batch = new QueueUsingLinkedList();
+        batch.enqueueAll(new int[]{1, 2, 3, 4, 5});
+        int[] drained = new int[3];
+        System.out.println("drainTo(3) dequeued " + batch.drainTo(drained, 3) + ": " + Arrays.toString(drained)); // 3: [1, 2, 3]
+        System.out.println("Front element (peek): " + batch.peek()); // 4
+        System.out.println("drainTo(10) dequeued " + batch.drainTo(new int[10], 10) + ", Queue size: " + batch.size()); // 2, 0
+
+        System.out.println("\n--- Iteration from front to rear ---");
+        QueueUsingLinkedList iterable = new QueueUsingLinkedList();
+        iterable.enqueueAll(new int[]{1, 2, 3, 4, 5});
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 1 2 3 4 5, the order dequeue() would return them
+        System.out.println();
+        System.out.println("Even elements (stream().filter(x -> x % 2 == 0)): "
+                + Arrays.toString(iterable.stream().filter(x -> x % 2 == 0).toArray())); // [2, 4]
+
+        System.out.println("\n--- Node pooling ---");
+        QueueUsingLinkedList pooled = new QueueUsingLinkedList(OperationListener.NONE, 64);
+        for (int i = 0; i < 1_000_000; i++) {
+            pooled.enqueue(i);
+            if (pooled.size() == 32) {
+                pooled.dequeue(); // Steady state: every enqueue reuses the node just dequeued
+            }
+        }
+        System.out.println("Pool hits: " + pooled.poolStats().hits() + ", misses: " + pooled.poolStats().misses()); // 999968, 32
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("QueueUsingLinkedList", ".snap");
+        QueueUsingLinkedList saved = new QueueUsingLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            saved.enqueue(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        QueueUsingLinkedList restored = QueueUsingLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peek(): " + restored.peek()); // 10
+        Files.delete(snapshotFile);
+
         System.out.println("\n--- Demonstration finished ---");
     }
 }
@@ -0,0 +1,216 @@
+package dataStructures.queues;
+
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException; // For handling empty queue scenarios
+
+// Lock-free single-producer/single-consumer ring buffer built on the same int[] + mask
+// layout as CircularQueueUsingArray.
+// Exactly one thread may call the producer methods (enqueue, offer) and exactly one
+// thread may call the consumer methods (dequeue, poll, peek). No locks are taken:
+// the producer publishes tail with a release store and the consumer publishes head
+// with a release store; each side reads the other's index with an acquire load.
+// Each side also caches the last value it saw of the other index, so the shared
+// cache line is only touched when the cached value says the queue is full/empty.
+// The padding superclasses below keep the producer and consumer fields on separate
+// cache lines so the two threads do not false-share.
+public class SpscQueueUsingArray extends SpscConsumerFields {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscProducerFields.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int[] arr;  // Array to store queue elements
+    private final int mask;   // capacity - 1, used to wrap the counters into array indices
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the queue; capacity is rounded up to the next power of two
+    public SpscQueueUsingArray(int capacity) {
+        this(capacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the queue with a listener that is told about every mutation.
+    // The listener is called from both the producer and the consumer thread.
+    public SpscQueueUsingArray(int capacity, OperationListener listener) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 30) + ".");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        int roundedCapacity = CircularQueueUsingArray.roundUpToPowerOfTwo(capacity);
+        this.arr = new int[roundedCapacity];
+        this.mask = roundedCapacity - 1;
+        this.listener = listener;
+        listener.onEvent(Operation.CREATED, roundedCapacity, 0);
+    }
+
+    // Method to return the actual (power of two) capacity of the queue
+    public int capacity() {
+        return arr.length;
+    }
+
+    // Method to return the number of elements; exact only when both threads are quiescent
+    public int size() {
+        long currentHead = (long) HEAD.getAcquire(this);
+        long currentTail = (long) TAIL.getAcquire(this);
+        return (int) (currentTail - currentHead);
+    }
+
+    // Method to check if the queue is empty; exact only when both threads are quiescent
+    public boolean isEmpty() {
+        return (long) HEAD.getAcquire(this) == (long) TAIL.getAcquire(this);
+    }
+
+    // Producer only: adds an element to the rear; returns false instead of throwing when full
+    public boolean offer(int data) {
+        long currentTail = tail; // Only the producer writes tail, so a plain read is enough
+        if (currentTail - headCache >= arr.length) {
+            headCache = (long) HEAD.getAcquire(this);
+            if (currentTail - headCache >= arr.length) {
+                return false;
+            }
+        }
+        arr[(int) currentTail & mask] = data;
+        TAIL.setRelease(this, currentTail + 1); // Publishes the slot write to the consumer
+        listener.onEvent(Operation.ENQUEUE, data, -1);
+        return true;
+    }
+
+    // Producer only: adds an element to the rear of the queue
+    public void enqueue(int data) {
+        if (!offer(data)) {
+            // Throw IllegalStateException if the queue is full
+            throw new IllegalStateException("Queue is full. Cannot enqueue " + data + ".");
+        }
+    }
+
+    // Consumer only: removes and returns the front element, or valueIfEmpty when there is none
+    public int poll(int valueIfEmpty) {
+        long currentHead = head; // Only the consumer writes head, so a plain read is enough
+        if (currentHead >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (currentHead >= tailCache) {
+                return valueIfEmpty;
+            }
+        }
+        int dequeuedData = arr[(int) currentHead & mask];
+        HEAD.setRelease(this, currentHead + 1); // Hands the slot back to the producer
+        listener.onEvent(Operation.DEQUEUE, dequeuedData, -1);
+        return dequeuedData;
+    }
+
+    // Consumer only: removes and returns the front element of the queue
+    public int dequeue() {
+        long currentHead = head;
+        if (currentHead >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (currentHead >= tailCache) {
+                // Throw NoSuchElementException if the queue is empty
+                throw new NoSuchElementException("Queue is empty. Cannot dequeue.");
+            }
+        }
+        int dequeuedData = arr[(int) currentHead & mask];
+        HEAD.setRelease(this, currentHead + 1);
+        listener.onEvent(Operation.DEQUEUE, dequeuedData, -1);
+        return dequeuedData;
+    }
+
+    // Consumer only: returns the front element of the queue without removing it
+    public int peek() {
+        long currentHead = head;
+        if (currentHead >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (currentHead >= tailCache) {
+                // Throw NoSuchElementException if the queue is empty
+                throw new NoSuchElementException("Queue is empty. Cannot peek.");
+            }
+        }
+        return arr[(int) currentHead & mask];
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("--- Creating an SPSC queue with capacity 1024 ---");
+        SpscQueueUsingArray queue = new SpscQueueUsingArray(1024);
+        final int count = 1_000_000;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield(); // Queue is full: let the consumer run
+                }
+            }
+        }, "producer");
+
+        long[] result = new long[2]; // [checksum, out-of-order count]
+        Thread consumer = new Thread(() -> {
+            long checksum = 0;
+            long outOfOrder = 0;
+            int expected = 0;
+            while (expected < count) {
+                int value = queue.poll(-1);
+                if (value == -1) {
+                    Thread.yield(); // Queue is empty: let the producer run
+                    continue;
+                }
+                if (value != expected) {
+                    outOfOrder++;
+                }
+                checksum += value;
+                expected++;
+            }
+            result[0] = checksum;
+            result[1] = outOfOrder;
+        }, "consumer");
+
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("Transferred " + count + " ints in " + elapsed / 1_000_000 + " ms");
+        System.out.println("Checksum: " + result[0] + " (expected " + ((long) count * (count - 1) / 2) + ")");
+        System.out.println("Out of order: " + result[1]); // 0
+        System.out.println("Is queue empty? " + queue.isEmpty()); // true
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
+
+// Cache-line padding: 64 bytes before the producer fields
+abstract class SpscPadBeforeProducer {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+// Fields written by the producer thread
+abstract class SpscProducerFields extends SpscPadBeforeProducer {
+    long tail;      // Next sequence the producer will write; published with a release store
+    long headCache; // Producer's last observed value of head
+}
+
+// Cache-line padding between the producer and consumer fields
+abstract class SpscPadBetween extends SpscProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+// Fields written by the consumer thread
+abstract class SpscConsumerFields extends SpscPadBetween {
+    long head;      // Next sequence the consumer will read; published with a release store
+    long tailCache; // Consumer's last observed value of tail
+    long p20, p21, p22, p23, p24, p25, p26, p27; // Padding after the consumer fields
+}
@@ -0,0 +1,117 @@
+package dataStructures.queues;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+// How a thread blocked on BlockingQueueUsingArray waits for room (put/offer) or for an element
+// (take/poll). await() is called with the queue's lock held when the queue is full or empty;
+// it must return with the lock held again, and the caller re-checks the queue afterwards, so
+// waking up early is always allowed. signal() is called with the lock held after every change
+// that may unblock a waiter on condition.
+// ready reads the queue's volatile element count without the lock and says whether the
+// operation looks possible; the polling strategies wait on it with the lock released and only
+// take the lock back once it turns true, so a waiter never competes for the lock in vain.
+// None of the strategies below uses synchronized or Object.wait(), so a virtual thread that
+// blocks in them unmounts instead of pinning its carrier thread. SPIN and YIELD never give up
+// the CPU for long and are only worth it when producers and consumers have dedicated cores.
+public interface WaitStrategy {
+
+    // Busy-waits with Thread.onSpinWait(): lowest wake-up latency, burns a core while waiting
+    WaitStrategy SPIN = new SpinWait();
+
+    // Gives up the rest of the time slice (or, on a virtual thread, the carrier) between checks
+    WaitStrategy YIELD = new YieldWait();
+
+    // Sleeps with LockSupport.parkNanos for up to 50 microseconds between checks; nobody
+    // has to wake the waiter, so producers and consumers never signal each other
+    WaitStrategy PARK = new ParkWait(TimeUnit.MICROSECONDS.toNanos(50));
+
+    // Sleeps on the queue's notFull/notEmpty Condition until the other side signals it
+    WaitStrategy CONDITION = new ConditionWait();
+
+    // Waits at most nanos for condition (or for ready to turn true); returns an estimate of the
+    // nanos left (<= 0 on timeout)
+    long await(ReentrantLock lock, Condition condition, BooleanSupplier ready, long nanos)
+            throws InterruptedException;
+
+    // Wakes one thread waiting on condition, if the strategy needs waking at all
+    void signal(Condition condition);
+
+    // Base for the strategies that drop the lock and poll ready until it turns true
+    abstract class PollingWait implements WaitStrategy {
+
+        @Override
+        public long await(ReentrantLock lock, Condition condition, BooleanSupplier ready, long nanos)
+                throws InterruptedException {
+            long start = System.nanoTime();
+            lock.unlock();
+            try {
+                // Lock-free checks only; the lock is taken again once, when ready turns true
+                while (!ready.getAsBoolean() && !Thread.currentThread().isInterrupted()) {
+                    long remaining = nanos - (System.nanoTime() - start);
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    pause(remaining);
+                }
+            } finally {
+                lock.lock();
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            return nanos - (System.nanoTime() - start);
+        }
+
+        // Nobody waits on the condition, so there is nothing to signal
+        @Override
+        public void signal(Condition condition) {
+        }
+
+        // Waits a short while before ready is checked again; nanos is the most the caller is still willing to wait
+        protected abstract void pause(long nanos);
+    }
+
+    final class SpinWait extends PollingWait {
+        @Override
+        protected void pause(long nanos) {
+            Thread.onSpinWait();
+        }
+    }
+
+    final class YieldWait extends PollingWait {
+        @Override
+        protected void pause(long nanos) {
+            Thread.yield();
+        }
+    }
+
+    final class ParkWait extends PollingWait {
+        private final long maxParkNanos;
+
+        ParkWait(long maxParkNanos) {
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        protected void pause(long nanos) {
+            LockSupport.parkNanos(Math.min(nanos, maxParkNanos));
+        }
+    }
+
+    final class ConditionWait implements WaitStrategy {
+        @Override
+        public long await(ReentrantLock lock, Condition condition, BooleanSupplier ready, long nanos)
+                throws InterruptedException {
+            return condition.awaitNanos(nanos); // The signal already says when to look again
+        }
+
+        @Override
+        public void signal(Condition condition) {
+            condition.signal();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package dataStructures.scheduling;
+
+// Body of every task run by a WorkStealingScheduler. A task is just an int (an index, a depth,
+// a range id...) and is run on one of the scheduler's workers, which is passed in: call
+// worker.fork(subtask) to split off more work and worker.accumulate(value) to add to the
+// result of the invocation. The worker may only be used during the call, on the calling thread.
+@FunctionalInterface
+public interface IntTaskHandler {
+
+    void execute(int task, WorkStealingScheduler.Worker worker);
+}
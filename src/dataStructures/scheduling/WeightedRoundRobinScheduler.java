@@ -0,0 +1,139 @@
+package dataStructures.scheduling;
+
+import dataStructures.hashing.IntIntHashMap;
+import dataStructures.linkedLists.CircularLinkedList;
+
+import java.util.NoSuchElementException; // For handling empty scheduler scenarios
+
+// Weighted round-robin over int task ids. The tasks sit in a CircularLinkedList whose rotation
+// cursor marks the task being served: next() hands it out weight times in a row, then advances
+// the cursor one node. Picking the next task never allocates or relinks a node, so a pick costs
+// O(1) no matter how many tasks are scheduled.
+// New tasks join just before the cursor, i.e. at the back of the current rotation.
+public class WeightedRoundRobinScheduler {
+
+    private final CircularLinkedList ring; // Task ids in rotation order; the cursor is the current task
+    private final IntIntHashMap weights;   // Weight of every scheduled task
+    private int remaining;                 // Turns the current task has left before the cursor moves on
+
+    // Constructor for an empty scheduler
+    public WeightedRoundRobinScheduler() {
+        this.ring = new CircularLinkedList();
+        this.weights = new IntIntHashMap();
+        this.remaining = 0;
+    }
+
+    // Method to return the number of scheduled tasks
+    public int size() {
+        return ring.getSize();
+    }
+
+    // Method to check if no task is scheduled
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    // Method to return the weight of a task, or 0 if it is not scheduled
+    public int weightOf(int taskId) {
+        return weights.get(taskId, 0);
+    }
+
+    // Method to schedule a task that gets weight consecutive turns per rotation
+    public void add(int taskId, int weight) {
+        checkWeight(weight);
+        if (weights.containsKey(taskId)) {
+            throw new IllegalArgumentException("Task " + taskId + " is already scheduled.");
+        }
+        boolean wasEmpty = ring.isEmpty();
+        weights.put(taskId, weight);
+        ring.insertBeforeCurrent(taskId);
+        if (wasEmpty) {
+            remaining = weight;
+        }
+    }
+
+    // Method to change the weight of a scheduled task; the new weight applies from its next turn
+    public void setWeight(int taskId, int weight) {
+        checkWeight(weight);
+        if (!weights.containsKey(taskId)) {
+            throw new NoSuchElementException("Task " + taskId + " is not scheduled.");
+        }
+        weights.put(taskId, weight);
+        if (ring.current() == taskId) {
+            remaining = Math.min(remaining, weight);
+        }
+    }
+
+    // Method to unschedule a task; returns false if it was not scheduled.
+    // O(1) for the current task, otherwise a walk around the ring.
+    public boolean remove(int taskId) {
+        if (!weights.remove(taskId)) {
+            return false;
+        }
+        if (ring.current() == taskId) {
+            ring.removeCurrent();
+            remaining = ring.isEmpty() ? 0 : weights.get(ring.current(), 0);
+        } else {
+            ring.deleteByValue(taskId);
+        }
+        return true;
+    }
+
+    // Method to return the task that gets the next turn
+    public int next() {
+        if (ring.isEmpty()) {
+            throw new NoSuchElementException("No task is scheduled.");
+        }
+        if (remaining == 0) {
+            ring.advance(1);
+            remaining = weights.get(ring.current(), 0);
+        }
+        remaining--;
+        return ring.current();
+    }
+
+    private static void checkWeight(int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive.");
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) {
+        WeightedRoundRobinScheduler scheduler = new WeightedRoundRobinScheduler();
+
+        System.out.println("--- Three tasks with weights 3, 2 and 1 ---");
+        scheduler.add(1, 3);
+        scheduler.add(2, 2);
+        scheduler.add(3, 1);
+        StringBuilder turns = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            turns.append(scheduler.next()).append(' ');
+        }
+        System.out.println("Turns: " + turns); // 1 1 1 2 2 3 1 1 1 2 2 3
+
+        System.out.println("\n--- Changing the mix ---");
+        scheduler.remove(2);
+        scheduler.setWeight(3, 2);
+        scheduler.add(4, 1); // Joins at the back of the rotation
+        turns.setLength(0);
+        for (int i = 0; i < 12; i++) {
+            turns.append(scheduler.next()).append(' ');
+        }
+        System.out.println("Turns: " + turns); // 1 1 1 4 3 3 1 1 1 4 3 3
+
+        System.out.println("\n--- 10,000,000 picks over 1,000,000 tasks ---");
+        WeightedRoundRobinScheduler big = new WeightedRoundRobinScheduler();
+        for (int i = 0; i < 1_000_000; i++) {
+            big.add(i, 1 + (i & 3));
+        }
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < 10_000_000; i++) {
+            checksum += big.next();
+        }
+        long millis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        System.out.println("Checksum: " + checksum + ", " + millis + " ms ("
+                + 10_000 / millis + " million picks per second)");
+    }
+}
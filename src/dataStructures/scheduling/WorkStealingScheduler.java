@@ -0,0 +1,348 @@
+package dataStructures.scheduling;
+
+import dataStructures.stacks.WorkStealingDeque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// Lightweight fork-join scheduler for int tasks, with one WorkStealingDeque per worker.
+// A worker pushes the tasks it forks onto the bottom of its own deque and pops them back
+// newest first (depth first, so the working set stays small and cache-hot); a worker whose
+// deque is empty steals the oldest task, usually the largest piece of work left, from the
+// top of a randomly chosen other deque.
+// Forks are fire-and-forget: a task never waits for its subtasks. Results are summed with
+// worker.accumulate() in a per-worker field, and invoke() returns once no task is left.
+// There is no shared pending-task counter for every fork and every task to contend on: each
+// worker counts the tasks it forked and the tasks it ran in its own fields, and the invoking
+// worker, once it runs out of work, compares the totals (see isQuiescent()).
+// The thread calling invoke() acts as worker 0 for the duration of the call; the other
+// parallelism - 1 workers are daemon threads that park between invocations.
+public class WorkStealingScheduler {
+
+    private static final int INITIAL_DEQUE_CAPACITY = 256;
+
+    private static final VarHandle FORKED;
+    private static final VarHandle EXECUTED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            FORKED = lookup.findVarHandle(Worker.class, "forkedCount", long.class);
+            EXECUTED = lookup.findVarHandle(Worker.class, "executedCount", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Worker[] workers;
+    private final Thread[] threads;                 // threads[i] runs workers[i]; threads[0] is unused
+    private final AtomicReference<Throwable> failure; // First exception thrown by a task, if any
+    private IntTaskHandler handler;                 // Handler of the current invocation
+    private volatile boolean active;                // True while an invocation is running
+    private volatile boolean shutdown;
+
+    // Constructor for a scheduler with the given number of workers (including the invoking thread)
+    public WorkStealingScheduler(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.workers = new Worker[parallelism];
+        this.threads = new Thread[parallelism];
+        this.failure = new AtomicReference<>();
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (int i = 1; i < parallelism; i++) {
+            Worker worker = workers[i];
+            threads[i] = new Thread(worker::runUntilShutdown, "work-stealing-worker-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+
+    // Method to return the number of workers
+    public int parallelism() {
+        return workers.length;
+    }
+
+    // Method to return a snapshot of the counters of the worker with the given index; exact
+    // while the scheduler is idle. The Worker itself is only handed to IntTaskHandler.execute.
+    public WorkerStats workerStats(int index) {
+        Worker worker = workers[index];
+        return new WorkerStats(index, (long) EXECUTED.getAcquire(worker), worker.stolenCount);
+    }
+
+    // Method to run rootTask and everything it forks, and return the sum of every value passed
+    // to worker.accumulate(). Invocations from different threads run one after the other.
+    public synchronized long invoke(IntTaskHandler handler, int rootTask) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null.");
+        }
+        if (shutdown) {
+            throw new IllegalStateException("Scheduler has been shut down.");
+        }
+        this.handler = handler;
+        failure.set(null);
+        for (Worker worker : workers) {
+            worker.result = 0;
+        }
+        workers[0].fork(rootTask);
+        active = true; // Publishes the handler and the root task to the other workers
+        for (int i = 1; i < threads.length; i++) {
+            LockSupport.unpark(threads[i]);
+        }
+        workers[0].runUntilQuiescent();
+        active = false;
+
+        Throwable thrown = failure.get();
+        if (thrown != null) {
+            throw new IllegalStateException("A task threw an exception.", thrown);
+        }
+        long total = 0;
+        for (Worker worker : workers) {
+            total += worker.result;
+        }
+        return total;
+    }
+
+    // Method to stop the worker threads once they are idle; the scheduler cannot be used afterwards
+    public void shutdown() {
+        shutdown = true;
+        for (int i = 1; i < threads.length; i++) {
+            LockSupport.unpark(threads[i]);
+        }
+    }
+
+    // Returns true once every task forked so far has run. The counters only grow and each is
+    // written by its own worker only (release) and read here with acquire, so reading all the
+    // executed counts first and the forked counts second is enough: a task counted as executed
+    // had its fork, and the forks of all its subtasks, published before, so both totals can
+    // only be equal if no forked task is still waiting or running.
+    private boolean isQuiescent() {
+        long executed = 0;
+        for (Worker worker : workers) {
+            executed += (long) EXECUTED.getAcquire(worker);
+        }
+        long forked = 0;
+        for (Worker worker : workers) {
+            forked += (long) FORKED.getAcquire(worker);
+        }
+        return executed == forked;
+    }
+
+    // Backoff for a worker that found nothing to do: spin briefly, then yield, then park for a
+    // few microseconds at a time, so idle workers leave the cores to those that have work
+    private static void idle(int attempt) {
+        if (attempt < 64) {
+            Thread.onSpinWait();
+        } else if (attempt < 128) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+
+    // Counters of one worker, as returned by workerStats()
+    public static final class WorkerStats {
+
+        private final int index;
+        private final long executedCount;
+        private final long stolenCount;
+
+        private WorkerStats(int index, long executedCount, long stolenCount) {
+            this.index = index;
+            this.executedCount = executedCount;
+            this.stolenCount = stolenCount;
+        }
+
+        // Method to return the index of the worker; 0 is the thread that called invoke()
+        public int index() {
+            return index;
+        }
+
+        // Method to return the number of tasks the worker has run, over all invocations
+        public long executedCount() {
+            return executedCount;
+        }
+
+        // Method to return the number of tasks the worker has stolen, over all invocations
+        public long stolenCount() {
+            return stolenCount;
+        }
+    }
+
+    // One worker: its deque, its share of the result and its counters.
+    // Only the thread running the worker may call fork() and accumulate(), which in practice
+    // means from inside IntTaskHandler.execute with the worker passed to it: the deque accepts
+    // pushes from its owner only, and forkedCount must have a single writer for isQuiescent().
+    public final class Worker {
+
+        private final int index;
+        private final WorkStealingDeque deque;
+        private long result;        // Sum of this worker's accumulate() calls in the current invocation
+        private long forkedCount;   // Tasks forked by this worker, over all invocations; see isQuiescent()
+        private long executedCount; // Tasks run by this worker, over all invocations; see isQuiescent()
+        private long stolenCount;   // Tasks this worker stole from other deques, over all invocations
+        private int seed;           // State of the xorshift generator that picks victims
+
+        private Worker(int index) {
+            this.index = index;
+            this.deque = new WorkStealingDeque(INITIAL_DEQUE_CAPACITY);
+            this.seed = index * 0x9E3779B9 + 1;
+        }
+
+        // Method to return the index of this worker; 0 is the thread that called invoke()
+        public int index() {
+            return index;
+        }
+
+        // Method to schedule task to run after the current one, here or on another worker.
+        // Only from inside IntTaskHandler.execute on this worker (see the class comment).
+        public void fork(int task) {
+            FORKED.setRelease(this, forkedCount + 1); // Before the push, so the task is counted before it can run
+            deque.push(task);
+        }
+
+        // Method to add value to the result of the current invocation.
+        // Only from inside IntTaskHandler.execute on this worker (see the class comment).
+        public void accumulate(long value) {
+            result += value;
+        }
+
+        // Runs one task from the own deque or, failing that, one stolen from another worker;
+        // returns false if no task was found
+        private boolean runOne() {
+            long task = deque.popOrEmpty();
+            if (task == WorkStealingDeque.EMPTY) {
+                task = stealFromOthers();
+                if (task == WorkStealingDeque.EMPTY) {
+                    return false;
+                }
+                stolenCount++;
+            }
+            try {
+                handler.execute((int) task, this);
+            } catch (Throwable t) {
+                // Only the rest of this task is skipped: subtasks it forked before throwing stay on
+                // the deque and still run, and invoke() reports the exception once all have finished
+                failure.compareAndSet(null, t);
+            } finally {
+                EXECUTED.setRelease(this, executedCount + 1);
+            }
+            return true;
+        }
+
+        // Tries every other deque once, starting from a random one
+        private long stealFromOthers() {
+            int n = workers.length;
+            if (n == 1) {
+                return WorkStealingDeque.EMPTY;
+            }
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            int start = (seed & Integer.MAX_VALUE) % n;
+            for (int i = 0; i < n; i++) {
+                int victim = (start + i) % n;
+                if (victim != index) {
+                    long task = workers[victim].deque.stealOrEmpty();
+                    if (task != WorkStealingDeque.EMPTY) {
+                        return task;
+                    }
+                }
+            }
+            return WorkStealingDeque.EMPTY;
+        }
+
+        // Worker 0: runs tasks until every forked task has finished
+        private void runUntilQuiescent() {
+            int attempt = 0;
+            while (true) {
+                if (runOne()) {
+                    attempt = 0;
+                } else if (isQuiescent()) {
+                    return;
+                } else {
+                    idle(attempt++);
+                }
+            }
+        }
+
+        // Workers 1..n-1: run tasks during invocations and park in between
+        private void runUntilShutdown() {
+            int attempt = 0;
+            while (!shutdown) {
+                if (!active) {
+                    LockSupport.park(this); // invoke() and shutdown() unpark every worker
+                    attempt = 0;
+                } else if (runOne()) {
+                    attempt = 0;
+                } else {
+                    idle(attempt++);
+                }
+            }
+        }
+    }
+
+    // Sequential Fibonacci, used below the demo's cutoff
+    private static long fibonacci(int n) {
+        return n < 2 ? n : fibonacci(n - 1) + fibonacci(n - 2);
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) {
+        System.out.println("--- Fork-join Fibonacci over int tasks ---");
+        final int n = 32;
+        final int cutoff = 16; // Below it a task computes its value sequentially
+        IntTaskHandler fib = (task, worker) -> {
+            if (task < cutoff) {
+                worker.accumulate(fibonacci(task));
+            } else {
+                worker.fork(task - 1);
+                worker.fork(task - 2);
+            }
+        };
+
+        long start = System.nanoTime();
+        long expected = fibonacci(n);
+        long sequentialNanos = System.nanoTime() - start;
+        System.out.println("Sequential fib(" + n + "): " + expected + " in " + sequentialNanos / 1_000_000 + " ms");
+
+        WorkStealingScheduler scheduler = new WorkStealingScheduler(4);
+        for (int round = 1; round <= 3; round++) {
+            start = System.nanoTime();
+            long result = scheduler.invoke(fib, n);
+            long elapsed = System.nanoTime() - start;
+            System.out.println("Round " + round + ": fib(" + n + ") = " + result + " in " + elapsed / 1_000_000
+                    + " ms (correct: " + (result == expected) + ")");
+        }
+
+        System.out.println("\n--- Tasks run and stolen per worker ---");
+        long executed = 0;
+        for (int i = 0; i < scheduler.parallelism(); i++) {
+            WorkerStats stats = scheduler.workerStats(i);
+            executed += stats.executedCount();
+            System.out.println("Worker " + i + ": executed " + stats.executedCount() + ", stolen " + stats.stolenCount());
+        }
+        System.out.println("Total executed: " + executed); // 3 rounds of the same task tree
+
+        System.out.println("\n--- A task that throws ends the invocation with an exception ---");
+        try {
+            scheduler.invoke((task, worker) -> {
+                if (task == 3) {
+                    throw new ArithmeticException("task " + task);
+                }
+                if (task < 8) {
+                    worker.fork(task + 1);
+                }
+            }, 0);
+        } catch (IllegalStateException e) {
+            System.err.println("Error caught: " + e.getMessage() + " Cause: " + e.getCause());
+        }
+
+        scheduler.shutdown();
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
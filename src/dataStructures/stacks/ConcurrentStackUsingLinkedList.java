@@ -0,0 +1,246 @@
+package dataStructures.stacks;
+
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.EmptyStackException; // For handling empty stack scenarios
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free counterpart of StackUsingLinkedList (Treiber stack): push and pop swing `top`
+// with a CAS and simply retry when another thread got there first.
+// With an elimination array, a thread whose CAS on `top` fails does not retry right away:
+// a pusher parks its node in a random slot for a short while, and a popper looks for a
+// parked node in a random slot. When the two meet, the push and the pop cancel out
+// without touching `top` at all, which is what keeps the stack scaling under heavy contention.
+public class ConcurrentStackUsingLinkedList {
+
+    // Inner class Node to represent elements in the linked list
+    private static class Node {
+        final int data;
+        Node next;
+
+        // Constructor for Node
+        Node(int d) {
+            data = d;
+        }
+    }
+
+    private static final VarHandle TOP;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(ConcurrentStackUsingLinkedList.class, "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int ELIMINATION_SPINS = 128; // How long a pusher waits in a slot for a popper
+
+    private volatile Node top; // Points to the top of the stack (head of the linked list)
+    private final AtomicReferenceArray<Node> eliminationSlots; // null when elimination is disabled
+    private final LongAdder pushes = new LongAdder();
+    private final LongAdder pops = new LongAdder();
+    private final AtomicInteger eliminated = new AtomicInteger(); // Push/pop pairs that met in a slot
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the stack without an elimination array
+    public ConcurrentStackUsingLinkedList() {
+        this(0, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the stack with the given number of elimination slots (0 disables it)
+    public ConcurrentStackUsingLinkedList(int eliminationSlots) {
+        this(eliminationSlots, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the stack with a listener that is told about every mutation.
+    // The listener is called concurrently from every thread using the stack.
+    public ConcurrentStackUsingLinkedList(int eliminationSlots, OperationListener listener) {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("Elimination slots cannot be negative.");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.eliminationSlots = eliminationSlots == 0 ? null : new AtomicReferenceArray<>(eliminationSlots);
+        this.listener = listener;
+        listener.onEvent(Operation.CREATED, -1, 0);
+    }
+
+    // Method to add an element to the top of the stack
+    public void push(int data) {
+        Node newNode = new Node(data);
+        while (true) {
+            Node currentTop = top;
+            newNode.next = currentTop;
+            if (TOP.compareAndSet(this, currentTop, newNode)) {
+                break;
+            }
+            // Contention on top: try to hand the node directly to a popper
+            if (eliminationSlots != null && tryEliminatePush(newNode)) {
+                break;
+            }
+        }
+        pushes.increment();
+        listener.onEvent(Operation.PUSH, data, -1);
+    }
+
+    // Parks the node in a random slot and waits briefly for a popper to take it
+    private boolean tryEliminatePush(Node node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false; // Slot busy; go back to the stack
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true; // A popper took it
+            }
+            Thread.onSpinWait();
+        }
+        // Timed out: withdraw the offer. If that fails, a popper took it at the last moment.
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    // Takes a node parked by a concurrent push, or returns null
+    private Node tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        Node parked = eliminationSlots.get(slot);
+        if (parked != null && eliminationSlots.compareAndSet(slot, parked, null)) {
+            eliminated.incrementAndGet();
+            return parked;
+        }
+        return null;
+    }
+
+    // Removes the top node, or returns null when the stack is empty
+    private Node popNode() {
+        while (true) {
+            Node currentTop = top;
+            if (currentTop == null) {
+                return null;
+            }
+            if (TOP.compareAndSet(this, currentTop, currentTop.next)) {
+                return currentTop;
+            }
+            if (eliminationSlots != null) {
+                Node parked = tryEliminatePop();
+                if (parked != null) {
+                    return parked;
+                }
+            }
+        }
+    }
+
+    // Method to remove and return the top element of the stack
+    public int pop() {
+        Node popped = popNode();
+        if (popped == null) {
+            // Throw EmptyStackException if the stack is empty
+            throw new EmptyStackException();
+        }
+        pops.increment();
+        listener.onEvent(Operation.POP, popped.data, -1);
+        return popped.data;
+    }
+
+    // Method to remove and return the top element, or valueIfEmpty when there is none
+    public int pop(int valueIfEmpty) {
+        Node popped = popNode();
+        if (popped == null) {
+            return valueIfEmpty;
+        }
+        pops.increment();
+        listener.onEvent(Operation.POP, popped.data, -1);
+        return popped.data;
+    }
+
+    // Method to return the top element of the stack without removing it
+    public int peek() {
+        Node currentTop = top;
+        if (currentTop == null) {
+            // Throw EmptyStackException if the stack is empty
+            throw new EmptyStackException();
+        }
+        return currentTop.data;
+    }
+
+    // Method to check if the stack is empty at the moment of the call
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    // Method to return the approximate number of elements; exact when no thread is mutating the stack
+    public int size() {
+        long size = pushes.sum() - pops.sum();
+        return size <= 0 ? 0 : (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    // Method to return how many push/pop pairs were satisfied through the elimination array
+    public int eliminatedCount() {
+        return eliminated.get();
+    }
+
+    // Main method for demonstration: several threads share the stack as a free-list of ids
+    public static void main(String[] args) throws InterruptedException {
+        final int ids = 1024;
+        final int threads = 8;
+        final int roundsPerThread = 200_000;
+
+        System.out.println("--- Free-list of " + ids + " ids shared by " + threads + " threads ---");
+        ConcurrentStackUsingLinkedList freeList = new ConcurrentStackUsingLinkedList(4);
+        for (int id = 0; id < ids; id++) {
+            freeList.push(id);
+        }
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < roundsPerThread; i++) {
+                    int id = freeList.pop(-1); // Allocate an id
+                    if (id != -1) {
+                        freeList.push(id);     // ... and release it
+                    }
+                }
+            }, "worker-" + t);
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        boolean[] seen = new boolean[ids];
+        int duplicates = 0;
+        int count = 0;
+        while (!freeList.isEmpty()) {
+            int id = freeList.pop();
+            if (seen[id]) {
+                duplicates++;
+            }
+            seen[id] = true;
+            count++;
+        }
+        System.out.println("Finished in " + elapsed / 1_000_000 + " ms");
+        System.out.println("Ids returned to the free-list: " + count + " (expected " + ids + ")");
+        System.out.println("Duplicated ids: " + duplicates); // 0
+        System.out.println("Push/pop pairs eliminated: " + freeList.eliminatedCount());
+
+        System.out.println("\n--- Attempting to pop from an empty stack ---");
+        try {
+            freeList.pop();
+        } catch (EmptyStackException e) {
+            System.err.println("Error caught: EmptyStackException (as expected for pop)");
+        }
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
@@ -0,0 +1,274 @@
+package dataStructures.stacks;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntArraySpliterator;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EmptyStackException; // For handling empty stack scenarios
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+// Auto-growing counterpart of StackUsingArray.
+// When the array is full, push doubles it with Arrays.copyOf (amortized O(1) per push).
+// When pop leaves the stack at 1/4 occupancy, the array is halved. Shrinking at 1/4
+// rather than 1/2 is the hysteresis: right after a shrink the array is half full, so it
+// takes as many pushes as there are elements before it has to grow again, and a push/pop
+// pair sitting on a boundary cannot make it resize back and forth.
+// The array never shrinks below the initial capacity.
+public class GrowableStackUsingArray implements IntIterable {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8; // Largest safe array length
+
+    private int[] arr;               // Array to store stack elements
+    private int top;                 // Index of the top element
+    private final int minCapacity;   // Initial capacity; the array never shrinks below it
+    private int growCount;           // Number of times the array was doubled
+    private int shrinkCount;         // Number of times the array was halved
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the stack
+    public GrowableStackUsingArray(int initialCapacity) {
+        this(initialCapacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the stack with a listener that is told about every mutation
+    public GrowableStackUsingArray(int initialCapacity, OperationListener listener) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.arr = new int[initialCapacity];
+        this.top = -1; // Stack is initially empty
+        this.minCapacity = initialCapacity;
+        this.listener = listener;
+        listener.onEvent(Operation.CREATED, initialCapacity, 0);
+    }
+
+    // Method to add an element to the top of the stack, doubling the array if it is full
+    public void push(int data) {
+        if (top == arr.length - 1) {
+            grow();
+        }
+        arr[++top] = data; // Increment top and then add the element
+        listener.onEvent(Operation.PUSH, data, top + 1);
+    }
+
+    // Method to remove and return the top element of the stack, halving the array at 1/4 occupancy
+    public int pop() {
+        if (isEmpty()) {
+            // Throw EmptyStackException if the stack is empty
+            throw new EmptyStackException();
+        }
+        int data = arr[top--]; // Get the top element and then decrement top
+        int size = top + 1;
+        if (size <= arr.length / 4 && arr.length / 2 >= minCapacity) {
+            shrink();
+        }
+        listener.onEvent(Operation.POP, data, size);
+        return data;
+    }
+
+    private void grow() {
+        if (arr.length == MAX_CAPACITY) {
+            // Throw StackOverflowError if the array cannot grow any further
+            throw new StackOverflowError("Stack cannot grow beyond " + MAX_CAPACITY + " elements.");
+        }
+        int newCapacity = (int) Math.min((long) arr.length * 2, MAX_CAPACITY);
+        arr = Arrays.copyOf(arr, newCapacity);
+        growCount++;
+    }
+
+    private void shrink() {
+        arr = Arrays.copyOf(arr, arr.length / 2);
+        shrinkCount++;
+    }
+
+    // Method to return the top element of the stack without removing it
+    public int peek() {
+        if (isEmpty()) {
+            // Throw EmptyStackException if the stack is empty
+            throw new EmptyStackException();
+        }
+        return arr[top];
+    }
+
+    // Method to check if the stack is empty
+    public boolean isEmpty() {
+        return top == -1;
+    }
+
+    // Method to return the current number of elements in the stack
+    public int size() {
+        return top + 1;
+    }
+
+    // Method to return the current length of the backing array
+    public int capacity() {
+        return arr.length;
+    }
+
+    // Method to return how many times the array was doubled
+    public int growCount() {
+        return growCount;
+    }
+
+    // Method to return how many times the array was halved
+    public int shrinkCount() {
+        return shrinkCount;
+    }
+
+    // Method to return the total number of resizes (grows + shrinks)
+    public int resizeCount() {
+        return growCount + shrinkCount;
+    }
+
+    // Method to return an iterator over the elements from top to bottom
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int[] elements = arr;
+            private int index = top;
+
+            @Override
+            public boolean hasNext() {
+                return index >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index < 0) {
+                    throw new NoSuchElementException();
+                }
+                return elements[index--];
+            }
+        };
+    }
+
+    // Method to pass every element, from top to bottom, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        int[] elements = arr;
+        for (int i = top; i >= 0; i--) {
+            action.accept(elements[i]);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from top to bottom, which splits by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return IntArraySpliterator.topDown(arr, top);
+    }
+
+    // Method to write the stack, from top to bottom, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The array length and minimum capacity are saved too.
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.GROWABLE_STACK_USING_ARRAY, top + 1,
+                arr.length, minCapacity)) {
+            for (int i = top; i >= 0; i--) {
+                writer.writeInt(arr[i]);
+            }
+        }
+    }
+
+    // Method to rebuild a stack, at its saved array length, from a snapshot written by snapshot()
+    public static GrowableStackUsingArray restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.GROWABLE_STACK_USING_ARRAY)) {
+            int size = reader.size();
+            int length = reader.state(0);
+            int minCapacity = reader.state(1);
+            if (minCapacity <= 0 || length < Math.max(size, minCapacity)) {
+                throw new IOException("Snapshot array length " + length + " cannot hold " + size
+                        + " elements: " + path);
+            }
+            GrowableStackUsingArray stack = new GrowableStackUsingArray(minCapacity);
+            stack.arr = new int[length];
+            for (int i = size - 1; i >= 0; i--) {
+                stack.arr[i] = reader.readInt();
+            }
+            stack.top = size - 1;
+            return stack;
+        }
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Creating a growable stack with initial capacity 2 ---");
+        GrowableStackUsingArray stack = new GrowableStackUsingArray(2, new ConsoleListener("GrowableStackUsingArray"));
+
+        System.out.println("\n--- Pushing past the initial capacity ---");
+        for (int i = 1; i <= 5; i++) {
+            stack.push(i * 10);
+            System.out.println("Capacity: " + stack.capacity()); // 2, 2, 4, 4, 8
+        }
+        System.out.println("Grow count: " + stack.growCount()); // 2
+
+        System.out.println("\n--- Popping down to 1/4 occupancy shrinks the array ---");
+        while (stack.size() > 1) {
+            stack.pop();
+            System.out.println("Capacity: " + stack.capacity()); // 8, 8, 4 (size 2 of 8), 2 (size 1 of 4)
+        }
+        System.out.println("Shrink count: " + stack.shrinkCount()); // 2
+
+        System.out.println("\n--- Push/pop pairs at a boundary do not thrash ---");
+        GrowableStackUsingArray boundary = new GrowableStackUsingArray(4);
+        for (int i = 0; i < 8; i++) {
+            boundary.push(i); // Capacity 8, completely full
+        }
+        int resizesBefore = boundary.resizeCount();
+        for (int i = 0; i < 1_000_000; i++) {
+            boundary.push(i); // Doubles to 16 once
+            boundary.pop();   // 8 of 16 is above 1/4, so no shrink
+        }
+        System.out.println("Resizes during 1,000,000 push/pop pairs: " + (boundary.resizeCount() - resizesBefore)); // 1
+        System.out.println("Capacity: " + boundary.capacity()); // 16
+
+        System.out.println("\n--- Attempting to pop from an empty stack (Underflow) ---");
+        GrowableStackUsingArray empty = new GrowableStackUsingArray(1);
+        try {
+            empty.pop();
+        } catch (EmptyStackException e) {
+            System.err.println("Error caught: EmptyStackException (as expected)");
+        }
+
+        System.out.println("\n--- Iteration after the array has grown ---");
+        GrowableStackUsingArray iterable = new GrowableStackUsingArray(2);
+        for (int i = 1; i <= 5; i++) {
+            iterable.push(i); // Grows 2 -> 4 -> 8
+        }
+        iterable.pop();
+        System.out.print("forEach after one pop: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 4 3 2 1
+        System.out.println();
+        System.out.println("Elements above 2 (stream().filter(x -> x > 2).count()): "
+                + iterable.stream().filter(x -> x > 2).count()); // 2
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("GrowableStackUsingArray", ".snap");
+        GrowableStackUsingArray saved = new GrowableStackUsingArray(2);
+        for (int i = 1; i <= 5; i++) {
+            saved.push(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        GrowableStackUsingArray restored = GrowableStackUsingArray.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peek(): " + restored.peek()); // 50
+        Files.delete(snapshotFile);
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
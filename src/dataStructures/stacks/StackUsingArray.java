@@ -1,22 +1,49 @@
 package dataStructures.stacks;
 
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntArraySpliterator;
+import dataStructures.common.IntIterable;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.EmptyStackException; // For handling empty stack scenarios
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
-public class StackUsingArray {
+public class StackUsingArray implements IntIterable {
 
     private int[] arr; // Array to store stack elements
     private int top;       // Index of the top element
     private int capacity;  // Maximum capacity of the stack
+    private final OperationListener listener; // Notified of every mutation; no-op by default
 
     // Constructor to initialize the stack
     public StackUsingArray(int capacity) {
+        this(capacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the stack with a listener that is told about every mutation
+    public StackUsingArray(int capacity, OperationListener listener) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be positive.");
         }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
         this.capacity = capacity;
         this.arr = new int[capacity];
         this.top = -1; // Stack is initially empty
-        System.out.println("Stack created with capacity: " + capacity);
+        listener.onEvent(Operation.CREATED, capacity, 0);
     }
 
     // Method to add an element to the top of the stack
@@ -26,7 +53,7 @@ public class StackUsingArray {
             throw new StackOverflowError("Stack is full. Cannot push " + data + ".");
         }
         arr[++top] = data; // Increment top and then add the element
-        System.out.println(data + " pushed to stack. Current size: " + size());
+        listener.onEvent(Operation.PUSH, data, size());
     }
 
     // Method to remove and return the top element of the stack
@@ -36,10 +63,54 @@ public class StackUsingArray {
             throw new EmptyStackException();
         }
         int data = arr[top--]; // Get the top element and then decrement top
-        System.out.println(data + " popped from stack. Current size: " + size());
+        listener.onEvent(Operation.POP, data, size());
         return data;
     }
 
+    // Method to push every element of values, in order (the last one ends up on top)
+    public void pushAll(int[] values) {
+        pushAll(values, 0, values.length);
+    }
+
+    // Method to push values[offset .. offset+length-1], in order, with one array copy.
+    // Pushes nothing and throws StackOverflowError if they do not all fit.
+    public void pushAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        if (length > capacity - size()) {
+            throw new StackOverflowError("Stack is full. Cannot push " + length + " elements.");
+        }
+        System.arraycopy(values, offset, arr, top + 1, length);
+        for (int i = 0; i < length; i++) {
+            top++;
+            listener.onEvent(Operation.PUSH, arr[top], size());
+        }
+    }
+
+    // Method to pop up to n elements into dst, in pop order (the top element goes to dst[0]).
+    // Returns the number of elements popped, which is less than n if the stack runs out.
+    public int popInto(int[] dst, int n) {
+        return popInto(dst, 0, n);
+    }
+
+    // Method to pop up to n elements into dst[offset ..], in pop order; returns the number popped
+    public int popInto(int[] dst, int offset, int n) {
+        if (offset < 0 || n < 0 || offset > dst.length - n) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + n
+                    + ") out of bounds for length " + dst.length);
+        }
+        int count = Math.min(n, size());
+        // Pop order is the reverse of array order, so this is a reversed copy rather than arraycopy
+        for (int i = 0; i < count; i++) {
+            dst[offset + i] = arr[top];
+            top--;
+            listener.onEvent(Operation.POP, dst[offset + i], size());
+        }
+        return count;
+    }
+
     // Method to return the top element of the stack without removing it
     public int peek() {
         if (isEmpty()) {
@@ -64,10 +135,74 @@ public class StackUsingArray {
         return top + 1;
     }
 
+    // Method to return an iterator over the elements from top to bottom
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int[] elements = arr;
+            private int index = top;
+
+            @Override
+            public boolean hasNext() {
+                return index >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index < 0) {
+                    throw new NoSuchElementException();
+                }
+                return elements[index--];
+            }
+        };
+    }
+
+    // Method to pass every element, from top to bottom, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        int[] elements = arr;
+        for (int i = top; i >= 0; i--) {
+            action.accept(elements[i]);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from top to bottom, which splits by index
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return IntArraySpliterator.topDown(arr, top);
+    }
+
+    // Method to write the stack, from top to bottom, to path as a binary snapshot
+    // (see SnapshotWriter for the format). The capacity is saved too.
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.STACK_USING_ARRAY, size(), capacity)) {
+            for (int i = top; i >= 0; i--) {
+                writer.writeInt(arr[i]);
+            }
+        }
+    }
+
+    // Method to rebuild a stack with the saved capacity from a snapshot written by snapshot()
+    public static StackUsingArray restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.STACK_USING_ARRAY)) {
+            int size = reader.size();
+            if (reader.state(0) < Math.max(size, 1)) {
+                throw new IOException("Snapshot capacity " + reader.state(0) + " cannot hold " + size
+                        + " elements: " + path);
+            }
+            StackUsingArray stack = new StackUsingArray(reader.state(0));
+            for (int i = size - 1; i >= 0; i--) {
+                stack.arr[i] = reader.readInt();
+            }
+            stack.top = size - 1;
+            return stack;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("--- Creating a stack with capacity 3 ---");
-        StackUsingArray stack = new StackUsingArray(3);
+        StackUsingArray stack = new StackUsingArray(3, new ConsoleListener("StackUsingArray"));
 
         System.out.println("\n--- Testing isEmpty() and isFull() on new stack ---");
         System.out.println("Is stack empty? " + stack.isEmpty()); // true
@@ -134,7 +269,7 @@ public class StackUsingArray {
         }
         
         System.out.println("\n--- Test with capacity 1 ---");
-        StackUsingArray stack2 = new StackUsingArray(1);
+        StackUsingArray stack2 = new StackUsingArray(1, new ConsoleListener("StackUsingArray"));
         stack2.push(100);
         System.out.println("Is stack2 full? " + stack2.isFull()); // true
         try {
@@ -157,6 +292,40 @@ public class StackUsingArray {
             System.err.println("Error caught: " + e.getMessage());
         }
         
+        System.out.println("\n--- Batch operations ---");
+        StackUsingArray batch = new StackUsingArray(8);
+        batch.pushAll(new int[]{1, 2, 3, 4, 5}); // 1, 2, 3, 4, 5 (top is 5)
+        int[] popped = new int[3];
+        System.out.println("popInto(3) popped " + batch.popInto(popped, 3) + ": " + Arrays.toString(popped)); // 3: [5, 4, 3]
+        try {
+            batch.pushAll(new int[7]); // Only 6 slots left: nothing is pushed
+        } catch (StackOverflowError e) {
+            System.err.println("Error caught: " + e.getMessage());
+        }
+        System.out.println("popInto(10) popped " + batch.popInto(new int[10], 10) + ", Stack size: " + batch.size()); // 2, 0
+
+        System.out.println("\n--- Iteration from top to bottom ---");
+        StackUsingArray iterable = new StackUsingArray(8);
+        iterable.pushAll(new int[]{1, 2, 3, 4, 5});
+        System.out.print("forEach: ");
+        iterable.forEach(value -> System.out.print(value + " ")); // 5 4 3 2 1, the order pop() would return them
+        System.out.println();
+        System.out.println("Top two (stream().limit(2).sum()): " + iterable.stream().limit(2).sum()); // 9
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("StackUsingArray", ".snap");
+        StackUsingArray saved = new StackUsingArray(8);
+        for (int i = 1; i <= 5; i++) {
+            saved.push(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        StackUsingArray restored = StackUsingArray.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peek(): " + restored.peek()); // 50
+        Files.delete(snapshotFile);
+
         System.out.println("\n--- Demonstration finished ---");
     }
 }
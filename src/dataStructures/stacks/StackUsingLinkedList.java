@@ -1,8 +1,27 @@
 package dataStructures.stacks;
 
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.IntIterable;
+import dataStructures.common.NodePool;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+import dataStructures.common.PoolStats;
+import dataStructures.common.SnapshotReader;
+import dataStructures.common.SnapshotType;
+import dataStructures.common.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.EmptyStackException; // For handling empty stack scenarios
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
 
-public class StackUsingLinkedList {
+public class StackUsingLinkedList implements IntIterable {
 
     // Inner class Node to represent elements in the linked list
     private static class Node {
@@ -18,21 +37,39 @@ public class StackUsingLinkedList {
 
     private Node top; // Points to the top of the stack (head of the linked list)
     private int size;   // Current number of elements in the stack
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+    private final NodePool<Node> pool;        // Popped nodes kept for reuse by push; off by default
 
     // Constructor to initialize the stack
     public StackUsingLinkedList() {
+        this(OperationListener.NONE);
+    }
+
+    // Constructor to initialize the stack with a listener that is told about every mutation
+    public StackUsingLinkedList(OperationListener listener) {
+        this(listener, 0);
+    }
+
+    // Constructor to initialize the stack with a listener and a pool that keeps up to
+    // poolCapacity popped nodes for later pushes (0 turns pooling off)
+    public StackUsingLinkedList(OperationListener listener, int poolCapacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        this.listener = listener;
+        this.pool = new NodePool<>(poolCapacity, Node::new, (node, data) -> node.data = data, node -> node.next = null);
         top = null; // Stack is initially empty
         size = 0;
-        System.out.println("Stack created using LinkedList.");
+        listener.onEvent(Operation.CREATED, -1, 0);
     }
 
     // Method to add an element to the top of the stack
     public void push(int data) {
-        Node newNode = new Node(data);
+        Node newNode = pool.acquire(data);
         newNode.next = top; // New node points to the current top
         top = newNode;      // New node becomes the new top
         size++;
-        System.out.println(data + " pushed to stack. Current size: " + size());
+        listener.onEvent(Operation.PUSH, data, size);
     }
 
     // Method to remove and return the top element of the stack
@@ -41,13 +78,69 @@ public class StackUsingLinkedList {
             // Throw EmptyStackException if the stack is empty
             throw new EmptyStackException();
         }
-        int poppedData = top.data; // Get data from the top node
-        top = top.next;            // Move top to the next node
+        Node popped = top;
+        int poppedData = popped.data; // Get data from the top node
+        top = popped.next;            // Move top to the next node
+        pool.release(popped);
         size--;
-        System.out.println(poppedData + " popped from stack. Current size: " + size());
+        listener.onEvent(Operation.POP, poppedData, size);
         return poppedData;
     }
 
+    // Method to push every element of values, in order (the last one ends up on top)
+    public void pushAll(int[] values) {
+        pushAll(values, 0, values.length);
+    }
+
+    // Method to push values[offset .. offset+length-1], in order.
+    // The new nodes are chained onto the current top first and the top is moved once.
+    public void pushAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + values.length);
+        }
+        Node newTop = top;
+        for (int i = offset; i < offset + length; i++) {
+            Node newNode = pool.acquire(values[i]);
+            newNode.next = newTop;
+            newTop = newNode;
+        }
+        top = newTop;
+        for (int i = offset; i < offset + length; i++) {
+            size++;
+            listener.onEvent(Operation.PUSH, values[i], size);
+        }
+    }
+
+    // Method to pop up to n elements into dst, in pop order (the top element goes to dst[0]).
+    // Returns the number of elements popped, which is less than n if the stack runs out.
+    public int popInto(int[] dst, int n) {
+        return popInto(dst, 0, n);
+    }
+
+    // Method to pop up to n elements into dst[offset ..], in pop order; returns the number popped.
+    // The popped nodes are read in one walk and the top is moved once.
+    public int popInto(int[] dst, int offset, int n) {
+        if (offset < 0 || n < 0 || offset > dst.length - n) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + n
+                    + ") out of bounds for length " + dst.length);
+        }
+        int count = Math.min(n, size);
+        Node current = top;
+        for (int i = 0; i < count; i++) {
+            dst[offset + i] = current.data;
+            Node next = current.next;
+            pool.release(current);
+            current = next;
+        }
+        top = current;
+        for (int i = 0; i < count; i++) {
+            size--;
+            listener.onEvent(Operation.POP, dst[offset + i], size);
+        }
+        return count;
+    }
+
     // Method to return the top element of the stack without removing it
     public int peek() {
         if (isEmpty()) {
@@ -67,10 +160,82 @@ public class StackUsingLinkedList {
         return size;
     }
 
+    // Method to return the hit, miss and size counters of the node pool
+    public PoolStats poolStats() {
+        return pool.stats();
+    }
+
+    // Method to return an iterator over the elements from top to bottom
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = top;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    // Method to pass every element, from top to bottom, to action
+    @Override
+    public void forEach(IntConsumer action) {
+        for (Node current = top; current != null; current = current.next) {
+            action.accept(current.data);
+        }
+    }
+
+    // Method to return a SIZED spliterator over the elements from top to bottom
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // Method to write the stack, from top to bottom, to path as a binary snapshot
+    // (see SnapshotWriter for the format)
+    public void snapshot(Path path) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, SnapshotType.STACK_USING_LINKED_LIST, size)) {
+            for (Node current = top; current != null; current = current.next) {
+                writer.writeInt(current.data);
+            }
+        }
+    }
+
+    // Method to rebuild a stack from a snapshot written by snapshot(), linking the nodes
+    // from the top down in one pass
+    public static StackUsingLinkedList restore(Path path) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(path, SnapshotType.STACK_USING_LINKED_LIST)) {
+            StackUsingLinkedList stack = new StackUsingLinkedList();
+            Node last = null;
+            for (int i = 0; i < reader.size(); i++) {
+                Node newNode = new Node(reader.readInt());
+                if (last == null) {
+                    stack.top = newNode;
+                } else {
+                    last.next = newNode;
+                }
+                last = newNode;
+            }
+            stack.size = reader.size();
+            return stack;
+        }
+    }
+
     // Main method for demonstration
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("--- Creating a stack using LinkedList ---");
-        StackUsingLinkedList stack = new StackUsingLinkedList();
+        StackUsingLinkedList stack = new StackUsingLinkedList(new ConsoleListener("StackUsingLinkedList"));
 
         System.out.println("\n--- Testing isEmpty() on new stack ---");
         System.out.println("Is stack empty? " + stack.isEmpty()); // true
@@ -142,6 +307,49 @@ public class StackUsingLinkedList {
         System.out.println("Popped element: " + stack.pop()); // 100
         System.out.println("Is stack empty? " + stack.isEmpty()); // true
 
+        System.out.println("\n--- Batch operations ---");
+        StackUsingLinkedList batch = new StackUsingLinkedList();
+        batch.pushAll(new int[]{1, 2, 3, 4, 5}); // 5 -> 4 -> 3 -> 2 -> 1 (top is 5)
+        int[] popped = new int[3];
+        System.out.println("popInto(3) popped " + batch.popInto(popped, 3) + ": " + Arrays.toString(popped)); // 3: [5, 4, 3]
+        System.out.println("Top element (peek): " + batch.peek()); // 2
+        System.out.println("popInto(10) popped " + batch.popInto(new int[10], 10) + ", Stack size: " + batch.size()); // 2, 0
+
+        System.out.println("\n--- Iteration from top to bottom ---");
+        StackUsingLinkedList iterable = new StackUsingLinkedList();
+        iterable.pushAll(new int[]{1, 2, 3, 4, 5});
+        PrimitiveIterator.OfInt topDown = iterable.iterator();
+        System.out.println("iterator().nextInt() is the top: " + topDown.nextInt() + ", then " + topDown.nextInt()); // 5, then 4
+        System.out.println("Top three (stream().limit(3)): " + Arrays.toString(iterable.stream().limit(3).toArray())); // [5, 4, 3]
+
+        System.out.println("\n--- Node pooling ---");
+        StackUsingLinkedList pooled = new StackUsingLinkedList(OperationListener.NONE, 64);
+        for (int round = 0; round < 10_000; round++) {
+            for (int i = 0; i < 50; i++) {
+                pooled.push(i);
+            }
+            while (!pooled.isEmpty()) {
+                pooled.pop();
+            }
+        }
+        // Only the first round allocates: 50 misses, then 499950 hits
+        System.out.println("Pool hits: " + pooled.poolStats().hits() + ", misses: " + pooled.poolStats().misses()
+                + ", pooled nodes: " + pooled.poolStats().size()); // 499950, 50, 50
+
+        System.out.println("\n--- Snapshot and restore ---");
+        Path snapshotFile = Files.createTempFile("StackUsingLinkedList", ".snap");
+        StackUsingLinkedList saved = new StackUsingLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            saved.push(i * 10);
+        }
+        saved.snapshot(snapshotFile);
+        StackUsingLinkedList restored = StackUsingLinkedList.restore(snapshotFile);
+        System.out.print("Restored from " + Files.size(snapshotFile) + " bytes: ");
+        restored.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+        System.out.println("Restored peek(): " + restored.peek()); // 50
+        Files.delete(snapshotFile);
+
         System.out.println("\n--- Demonstration finished ---");
     }
 }
@@ -0,0 +1,278 @@
+package dataStructures.stacks;
+
+import dataStructures.common.ConsoleListener;
+import dataStructures.common.Operation;
+import dataStructures.common.OperationListener;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.EmptyStackException; // For handling empty stack scenarios
+import java.util.concurrent.atomic.AtomicLong;
+
+// Chase-Lev work-stealing deque: a StackUsingArray for one owner thread whose bottom
+// elements other threads ("thieves") can take from the other end.
+//   - The owner pushes and pops at the bottom. push never uses CAS, and pop only uses one
+//     when it takes the last element and might race a thief for it.
+//   - Thieves steal from the top, each steal claiming its element with one CAS on top.
+//   - When the array is full, push copies the elements into an array twice as large and
+//     publishes it; thieves still reading the old array see valid elements there (the owner
+//     never writes to it again) and are never blocked by the copy.
+// bottom and top are counters like head and tail in CircularQueueUsingArray, and slot
+// i & mask holds element i. Memory ordering follows Le, Pop, Cohen and Zappa Nardelli,
+// "Correct and Efficient Work-Stealing for Weak Memory Models" (PPoPP 2013).
+// The padding superclasses below keep the owner and thief fields on separate cache lines.
+public class WorkStealingDeque extends WorkStealingThiefFields {
+
+    // Returned by popOrEmpty() and stealOrEmpty() when there was nothing to take; it is
+    // outside the int range, so every int can be stored
+    public static final long EMPTY = Long.MIN_VALUE;
+
+    private static final int MAX_CAPACITY = 1 << 30; // Largest power of two an int[] can hold
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle ARRAY;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingThiefFields.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingOwnerFields.class, "bottom", long.class);
+            ARRAY = lookup.findVarHandle(WorkStealingOwnerFields.class, "array", int[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final OperationListener listener; // Notified of every mutation; no-op by default
+
+    // Constructor to initialize the deque; the initial capacity is rounded up to the next power of two
+    public WorkStealingDeque(int initialCapacity) {
+        this(initialCapacity, OperationListener.NONE);
+    }
+
+    // Constructor to initialize the deque with a listener that is told about every mutation.
+    // The listener is called from the owner and from every thief.
+    public WorkStealingDeque(int initialCapacity, OperationListener listener) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        int roundedCapacity = initialCapacity == 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        ARRAY.setRelease(this, new int[roundedCapacity]);
+        this.listener = listener;
+        listener.onEvent(Operation.CREATED, roundedCapacity, 0);
+    }
+
+    // Method to return the current length of the backing array
+    public int capacity() {
+        return ((int[]) ARRAY.getAcquire(this)).length;
+    }
+
+    // Method to return the number of elements; exact only when no thread is using the deque
+    public int size() {
+        long currentTop = (long) TOP.getVolatile(this);
+        long currentBottom = (long) BOTTOM.getVolatile(this);
+        return (int) Math.max(0, currentBottom - currentTop);
+    }
+
+    // Method to check if the deque is empty; exact only when no thread is using the deque
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Owner only: adds an element at the bottom, doubling the array if it is full
+    public void push(int data) {
+        long currentBottom = bottom; // Only the owner writes bottom, so a plain read is enough
+        long currentTop = (long) TOP.getAcquire(this);
+        int[] currentArray = array;
+        if (currentBottom - currentTop >= currentArray.length) {
+            currentArray = grow(currentArray, currentTop, currentBottom);
+        }
+        currentArray[(int) currentBottom & (currentArray.length - 1)] = data;
+        BOTTOM.setRelease(this, currentBottom + 1); // Publishes the slot write to the thieves
+        listener.onEvent(Operation.PUSH, data, -1);
+    }
+
+    // Owner only: removes and returns the bottom element, or EMPTY if there is none
+    public long popOrEmpty() {
+        long newBottom = bottom - 1;
+        int[] currentArray = array;
+        // Reserve the bottom element before looking at top. The volatile store and load keep
+        // this order, so a thief and the owner cannot both miss each other's update.
+        BOTTOM.setVolatile(this, newBottom);
+        long currentTop = (long) TOP.getVolatile(this);
+        if (currentTop > newBottom) {
+            BOTTOM.setRelease(this, newBottom + 1); // Was already empty
+            return EMPTY;
+        }
+        int data = currentArray[(int) newBottom & (currentArray.length - 1)];
+        if (currentTop == newBottom) {
+            // The last element: the owner and the thieves race for it with a CAS on top
+            boolean won = TOP.compareAndSet(this, currentTop, currentTop + 1);
+            BOTTOM.setRelease(this, newBottom + 1);
+            if (!won) {
+                return EMPTY;
+            }
+        }
+        listener.onEvent(Operation.POP, data, -1);
+        return data;
+    }
+
+    // Owner only: removes and returns the bottom element
+    public int pop() {
+        long data = popOrEmpty();
+        if (data == EMPTY) {
+            // Throw EmptyStackException if the deque is empty
+            throw new EmptyStackException();
+        }
+        return (int) data;
+    }
+
+    // Owner only: removes and returns the bottom element, or valueIfEmpty if there is none
+    public int pop(int valueIfEmpty) {
+        long data = popOrEmpty();
+        return data == EMPTY ? valueIfEmpty : (int) data;
+    }
+
+    // Any thread: removes and returns the top element, or EMPTY if there is none.
+    // A CAS lost to another thief or to the owner is retried as long as elements remain.
+    public long stealOrEmpty() {
+        while (true) {
+            long currentTop = (long) TOP.getVolatile(this);
+            long currentBottom = (long) BOTTOM.getVolatile(this);
+            if (currentTop >= currentBottom) {
+                return EMPTY;
+            }
+            int[] currentArray = (int[]) ARRAY.getAcquire(this);
+            int data = currentArray[(int) currentTop & (currentArray.length - 1)];
+            if (TOP.compareAndSet(this, currentTop, currentTop + 1)) {
+                listener.onEvent(Operation.STEAL, data, -1);
+                return data;
+            }
+        }
+    }
+
+    // Any thread: removes and returns the top element, or valueIfEmpty if there is none
+    public int steal(int valueIfEmpty) {
+        long data = stealOrEmpty();
+        return data == EMPTY ? valueIfEmpty : (int) data;
+    }
+
+    // Copies elements currentTop .. currentBottom-1 into an array twice as large, keeping
+    // each at slot (index & mask), and publishes it. The old array is left untouched.
+    private int[] grow(int[] oldArray, long currentTop, long currentBottom) {
+        if (oldArray.length == MAX_CAPACITY) {
+            // Throw StackOverflowError if the array cannot grow any further
+            throw new StackOverflowError("Deque cannot grow beyond " + MAX_CAPACITY + " elements.");
+        }
+        int[] newArray = new int[oldArray.length * 2];
+        int oldMask = oldArray.length - 1;
+        int newMask = newArray.length - 1;
+        for (long i = currentTop; i < currentBottom; i++) {
+            newArray[(int) i & newMask] = oldArray[(int) i & oldMask];
+        }
+        ARRAY.setRelease(this, newArray);
+        return newArray;
+    }
+
+    // Main method for demonstration
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("--- Owner pushes and pops at the bottom, a thief steals from the top ---");
+        WorkStealingDeque deque = new WorkStealingDeque(2, new ConsoleListener("WorkStealingDeque"));
+        for (int i = 1; i <= 5; i++) {
+            deque.push(i * 10); // Grows 2 -> 4 -> 8
+        }
+        System.out.println("Capacity: " + deque.capacity()); // 8
+        System.out.println("pop(): " + deque.pop());     // 50, newest first
+        System.out.println("steal(): " + deque.steal(-1)); // 10, oldest first
+        System.out.println("Size: " + deque.size()); // 3
+
+        System.out.println("\n--- Taking from an empty deque ---");
+        WorkStealingDeque empty = new WorkStealingDeque(1);
+        System.out.println("pop(-1): " + empty.pop(-1));     // -1
+        System.out.println("steal(-1): " + empty.steal(-1)); // -1
+        try {
+            empty.pop();
+        } catch (EmptyStackException e) {
+            System.err.println("Error caught: EmptyStackException (as expected)");
+        }
+
+        System.out.println("\n--- One owner and three thieves; every element is taken exactly once ---");
+        final int count = 2_000_000;
+        WorkStealingDeque shared = new WorkStealingDeque(16); // Grows while the thieves are stealing
+        AtomicLong stolenCount = new AtomicLong();
+        AtomicLong stolenSum = new AtomicLong();
+        Thread[] thieves = new Thread[3];
+        for (int t = 0; t < thieves.length; t++) {
+            thieves[t] = new Thread(() -> {
+                long localCount = 0;
+                long localSum = 0;
+                while (true) {
+                    long data = shared.stealOrEmpty();
+                    if (data != EMPTY) {
+                        localCount++;
+                        localSum += data;
+                    } else if (Thread.currentThread().isInterrupted()) {
+                        break; // The owner has drained the deque and will push no more
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                stolenCount.addAndGet(localCount);
+                stolenSum.addAndGet(localSum);
+            });
+            thieves[t].start();
+        }
+        long poppedCount = 0;
+        long poppedSum = 0;
+        for (int i = 0; i < count; i++) {
+            shared.push(i);
+            if (i % 3 == 0) { // The owner also takes back some of its own work
+                long data = shared.popOrEmpty();
+                if (data != EMPTY) {
+                    poppedCount++;
+                    poppedSum += data;
+                }
+            }
+        }
+        for (long data; (data = shared.popOrEmpty()) != EMPTY; ) {
+            poppedCount++;
+            poppedSum += data;
+        }
+        for (Thread thief : thieves) {
+            thief.interrupt(); // Nothing left to steal
+            thief.join();
+        }
+        System.out.println("Popped: " + poppedCount + ", stolen: " + stolenCount.get()
+                + ", total: " + (poppedCount + stolenCount.get())); // total 2000000
+        System.out.println("Sum: " + (poppedSum + stolenSum.get()) + " (expected "
+                + (long) count * (count - 1) / 2 + ")");
+
+        System.out.println("\n--- Demonstration finished ---");
+    }
+}
+
+// Cache-line padding: 64 bytes before the owner fields
+abstract class WorkStealingPadBeforeOwner {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+// Fields written only by the owner thread
+abstract class WorkStealingOwnerFields extends WorkStealingPadBeforeOwner {
+    long bottom;  // Index of the next push; published with release (or volatile) stores
+    int[] array;  // Current backing array; replaced with a release store when it grows
+}
+
+// Cache-line padding between the owner and thief fields
+abstract class WorkStealingPadBetween extends WorkStealingOwnerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+// Field advanced by the thieves (and by the owner when it takes the last element)
+abstract class WorkStealingThiefFields extends WorkStealingPadBetween {
+    long top;     // Index of the next steal; only ever advanced with a CAS
+    long p20, p21, p22, p23, p24, p25, p26, p27; // Padding after the thief fields
+}